@@ -0,0 +1,71 @@
+package com.healthcare.gateway.cache;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.List;
+
+/**
+ * Fully buffered upstream response that can be replayed to other clients.
+ */
+public class CachedResponse {
+
+    private final HttpStatusCode status;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final Instant storedAt;
+
+    public CachedResponse(HttpStatusCode status, HttpHeaders upstreamHeaders, byte[] body) {
+        this.status = status;
+        this.headers = replayableHeaders(upstreamHeaders);
+        this.body = body;
+        this.storedAt = Instant.now();
+    }
+
+    public Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        response.getHeaders().putAll(headers);
+        response.getHeaders().setContentLength(body.length);
+        DataBuffer buffer = response.bufferFactory().wrap(body);
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    // Getters
+    public HttpStatusCode getStatus() {
+        return status;
+    }
+
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public Instant getStoredAt() {
+        return storedAt;
+    }
+
+    // Drops per-connection headers, the CORS headers computed for the original caller's origin and
+    // per-request diagnostics that the gateway sets again when replaying
+    private static HttpHeaders replayableHeaders(HttpHeaders upstream) {
+        HttpHeaders copy = new HttpHeaders();
+        for (Map.Entry<String, List<String>> header : upstream.entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (name.startsWith("access-control-") || name.equals("content-length") || name.equals("transfer-encoding")
+                    || name.equals("connection") || name.equals("keep-alive") || name.equals("set-cookie")
+                    || name.equals("server-timing") || name.equals("x-cache")) {
+                continue;
+            }
+            copy.put(header.getKey(), List.copyOf(header.getValue()));
+        }
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+}
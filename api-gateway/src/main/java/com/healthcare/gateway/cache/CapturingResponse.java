@@ -0,0 +1,68 @@
+package com.healthcare.gateway.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Passes the response through unchanged while keeping a copy of the body, then hands the complete
+ * response to {@code onComplete}. Bodies larger than {@code maxBytes} and streamed responses are not
+ * captured, so memory per in-flight request stays bounded.
+ */
+public class CapturingResponse extends ServerHttpResponseDecorator {
+
+    private final int maxBytes;
+    private final Consumer<CachedResponse> onComplete;
+
+    public CapturingResponse(ServerHttpResponse delegate, int maxBytes, Consumer<CachedResponse> onComplete) {
+        super(delegate);
+        this.maxBytes = maxBytes;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        boolean[] overflow = {false};
+        Flux<? extends DataBuffer> tapped = Flux.from(body)
+                .doOnNext(buffer -> {
+                    if (overflow[0]) {
+                        return;
+                    }
+                    if (copy.size() + buffer.readableByteCount() > maxBytes) {
+                        overflow[0] = true;
+                        copy.reset();
+                        return;
+                    }
+                    try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                        while (iterator.hasNext()) {
+                            ByteBuffer chunk = iterator.next();
+                            byte[] bytes = new byte[chunk.remaining()];
+                            chunk.get(bytes);
+                            copy.write(bytes, 0, bytes.length);
+                        }
+                    }
+                })
+                .doOnComplete(() -> {
+                    if (!overflow[0]) {
+                        onComplete.accept(new CachedResponse(
+                                getStatusCode() != null ? getStatusCode() : HttpStatus.OK, getHeaders(), copy.toByteArray()));
+                    }
+                });
+        return super.writeWith(tapped);
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        // Streaming responses are never captured
+        return super.writeAndFlushWith(body);
+    }
+}
@@ -0,0 +1,95 @@
+package com.healthcare.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.healthcare.gateway.config.EdgeCacheProperties;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Size-bounded store of upstream GET responses, each expiring after its own TTL.
+ */
+@Component
+public class EdgeCache {
+
+    private static final Logger log = LoggerFactory.getLogger(EdgeCache.class);
+
+    @Autowired
+    private EdgeCacheProperties properties;
+
+    private Cache<String, Entry> entries;
+
+    @PostConstruct
+    void init() {
+        entries = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxBytes())
+                .weigher((String key, Entry entry) -> key.length() + entry.response().getBody().length)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        log.info("Edge cache {} for routes {} (max {} bytes)",
+                properties.isEnabled() ? "enabled" : "disabled", properties.getTtl().keySet(), properties.getMaxBytes());
+    }
+
+    public Entry get(String key) {
+        return entries.getIfPresent(key);
+    }
+
+    public Entry put(String key, String routeId, String path, CachedResponse response, Duration ttl) {
+        String etag = response.getHeaders().getETag();
+        Entry entry = new Entry(routeId, path, response, etag != null ? etag : etagOf(response.getBody()), ttl);
+        entries.put(key, entry);
+        return entry;
+    }
+
+    // Removes entries of the route and/or under the path prefix; with neither, clears the cache
+    public long purge(String routeId, String pathPrefix) {
+        long before = entries.estimatedSize();
+        if (routeId == null && pathPrefix == null) {
+            entries.invalidateAll();
+        } else {
+            entries.asMap().values().removeIf(entry ->
+                    (routeId == null || routeId.equals(entry.routeId()))
+                            && (pathPrefix == null || entry.path().startsWith(pathPrefix)));
+        }
+        entries.cleanUp();
+        long purged = before - entries.estimatedSize();
+        log.info("Purged {} edge cache entries (route={}, prefix={})", purged, routeId, pathPrefix);
+        return purged;
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record Entry(String routeId, String path, CachedResponse response, String etag, Duration ttl) {
+    }
+}
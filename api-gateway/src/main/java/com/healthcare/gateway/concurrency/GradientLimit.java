@@ -0,0 +1,92 @@
+package com.healthcare.gateway.concurrency;
+
+import com.healthcare.gateway.config.ConcurrencyLimitProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit for one route, adjusted with a gradient of response times: while recent samples
+ * stay close to the long-term average the limit grows by about sqrt(limit); when they rise, the limit
+ * shrinks in proportion (at most halving per sample). Failures back the limit off by 10%.
+ * Acquiring is a single atomic increment; only limit updates are synchronized.
+ */
+public class GradientLimit {
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    public GradientLimit(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.estimatedLimit = properties.getInitialLimit();
+        this.limit = properties.getInitialLimit();
+    }
+
+    /**
+     * Returns the in-flight count including this request (to pass to {@link #onSuccess}), or -1 if
+     * the limit is reached and the request must be rejected.
+     */
+    public int tryAcquire() {
+        int current = inFlight.incrementAndGet();
+        if (current > limit) {
+            inFlight.decrementAndGet();
+            return -1;
+        }
+        return current;
+    }
+
+    public void onSuccess(long rttNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        update(rttNanos, inFlightAtStart);
+    }
+
+    public void onFailure() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            setEstimate(estimatedLimit * 0.9);
+        }
+    }
+
+    public void onCancel() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtStart) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / properties.getLongWindow();
+        }
+        // Recovered from a slow period: pull the long-term average down faster so the limit can grow again
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Not using the current limit: there is no evidence a higher one would be safe
+        if (inFlightAtStart < estimatedLimit / 2 && rttNanos <= longRttNanos) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, properties.getRttTolerance() * longRttNanos / rttNanos));
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        setEstimate(estimatedLimit * (1 - properties.getSmoothing()) + target * properties.getSmoothing());
+    }
+
+    private void setEstimate(double estimate) {
+        estimatedLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), estimate));
+        limit = (int) estimatedLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
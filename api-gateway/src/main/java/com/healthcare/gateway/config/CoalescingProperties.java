@@ -0,0 +1,60 @@
+package com.healthcare.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request coalescing ({@code gateway.coalescing.*}): concurrent identical GETs on the listed routes
+ * share one upstream call.
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.coalescing")
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+
+    private List<String> routes = new ArrayList<>();
+
+    // Responses larger than this are not replayed; waiting requests then go upstream themselves
+    private int maxBodyBytes = 1024 * 1024;
+
+    // How long a request waits for the in-flight call before going upstream itself
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(List<String> routes) {
+        this.routes = routes;
+    }
+
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public void setMaxBodyBytes(int maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+}
@@ -0,0 +1,61 @@
+package com.healthcare.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Edge response cache ({@code gateway.edge-cache.*}). Only GET requests on routes listed in
+ * {@code ttl} are cached; an upstream {@code Cache-Control: max-age} shorter than the route TTL wins.
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.edge-cache")
+public class EdgeCacheProperties {
+
+    private boolean enabled = true;
+
+    // Total size of the cached bodies
+    private long maxBytes = 64L * 1024 * 1024;
+
+    // Larger responses are passed through without being cached
+    private int maxBodyBytes = 1024 * 1024;
+
+    // Route id -> TTL
+    private Map<String, Duration> ttl = new HashMap<>();
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public void setMaxBodyBytes(int maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    public Map<String, Duration> getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Map<String, Duration> ttl) {
+        this.ttl = ttl;
+    }
+}
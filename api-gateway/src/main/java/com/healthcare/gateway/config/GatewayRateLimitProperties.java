@@ -0,0 +1,106 @@
+package com.healthcare.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per route and role request limits ({@code gateway.rate-limit.*}). {@code route} is a gateway route id
+ * and {@code role} a token role or {@code ANONYMOUS}; either may be {@code *}. The most specific
+ * limit wins: route and role, then route, then role, then the catch-all.
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class GatewayRateLimitProperties {
+
+    public static final String ANY = "*";
+
+    private boolean enabled = true;
+
+    // Upper bound on tracked clients; least recently used buckets are evicted first
+    private long maxKeys = 100_000;
+
+    private long idleExpirySeconds = 600;
+
+    private List<Limit> limits = new ArrayList<>();
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(long maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public long getIdleExpirySeconds() {
+        return idleExpirySeconds;
+    }
+
+    public void setIdleExpirySeconds(long idleExpirySeconds) {
+        this.idleExpirySeconds = idleExpirySeconds;
+    }
+
+    public List<Limit> getLimits() {
+        return limits;
+    }
+
+    public void setLimits(List<Limit> limits) {
+        this.limits = limits;
+    }
+
+    public static class Limit {
+
+        private String route = ANY;
+
+        private String role = ANY;
+
+        private double requestsPerSecond;
+
+        // Requests allowed at once on top of the steady rate
+        private int burst = 1;
+
+        // Getters and Setters
+        public String getRoute() {
+            return route;
+        }
+
+        public void setRoute(String route) {
+            this.route = route;
+        }
+
+        public String getRole() {
+            return role;
+        }
+
+        public void setRole(String role) {
+            this.role = role;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.healthcare.gateway.config;
+
+import com.healthcare.gateway.security.AccessRule;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Path access rules ({@code gateway.security.rules[n].*}). A path ending in {@code /**} matches the
+ * prefix and everything below it, {@code *} matches exactly one segment; the most specific rule wins.
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.security")
+public class GatewaySecurityProperties {
+
+    private AccessRule.Access defaultAccess = AccessRule.Access.AUTHENTICATED;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    // Getters and Setters
+    public AccessRule.Access getDefaultAccess() {
+        return defaultAccess;
+    }
+
+    public void setDefaultAccess(AccessRule.Access defaultAccess) {
+        this.defaultAccess = defaultAccess;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static class Rule {
+
+        private String path;
+
+        // Empty means every method
+        private List<String> methods = new ArrayList<>();
+
+        private AccessRule.Access access = AccessRule.Access.AUTHENTICATED;
+
+        // Only checked for authenticated rules; empty means any role
+        private List<String> roles = new ArrayList<>();
+
+        // Getters and Setters
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public AccessRule.Access getAccess() {
+            return access;
+        }
+
+        public void setAccess(AccessRule.Access access) {
+            this.access = access;
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+
+        public void setRoles(List<String> roles) {
+            this.roles = roles;
+        }
+    }
+}
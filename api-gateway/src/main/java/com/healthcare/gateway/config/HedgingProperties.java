@@ -0,0 +1,100 @@
+package com.healthcare.gateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Request hedging ({@code gateway.hedging.*}). Routes opt in with {@code metadata.hedge=true};
+ * {@code metadata.hedge-percentile} overrides the default percentile for a route.
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.hedging")
+public class HedgingProperties {
+
+    private boolean enabled = true;
+
+    // Observed latency percentile after which a second request is sent
+    private double percentile = 0.95;
+
+    // Used until enough samples have been observed
+    private Duration initialDelay = Duration.ofMillis(200);
+
+    private Duration minDelay = Duration.ofMillis(20);
+
+    // Extra requests allowed, as a fraction of hedgeable requests
+    private double budgetRatio = 0.05;
+
+    // Hedges that may be issued at once after a quiet period
+    private int budgetBurst = 10;
+
+    private Duration timeout = Duration.ofSeconds(10);
+
+    private int maxBodyBytes = 1024 * 1024;
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(double percentile) {
+        this.percentile = percentile;
+    }
+
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    public void setInitialDelay(Duration initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+
+    public Duration getMinDelay() {
+        return minDelay;
+    }
+
+    public void setMinDelay(Duration minDelay) {
+        this.minDelay = minDelay;
+    }
+
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    public void setBudgetRatio(double budgetRatio) {
+        this.budgetRatio = budgetRatio;
+    }
+
+    public int getBudgetBurst() {
+        return budgetBurst;
+    }
+
+    public void setBudgetBurst(int budgetBurst) {
+        this.budgetBurst = budgetBurst;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public int getMaxBodyBytes() {
+        return maxBodyBytes;
+    }
+
+    public void setMaxBodyBytes(int maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+}
@@ -0,0 +1,10 @@
+package com.healthcare.gateway.config;
+
+import com.healthcare.gateway.loadbalancer.GatewayLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@LoadBalancerClients(defaultConfiguration = GatewayLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
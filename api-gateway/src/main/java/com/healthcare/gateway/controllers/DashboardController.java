@@ -0,0 +1,44 @@
+package com.healthcare.gateway.controllers;
+
+import com.healthcare.gateway.dashboard.DashboardService;
+import com.healthcare.gateway.dashboard.DashboardSummary;
+import com.healthcare.gateway.security.JwtVerifier;
+import com.healthcare.gateway.security.VerifiedToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Backend-for-frontend endpoint for the dashboard. Served by the gateway itself, so the token is
+ * verified here rather than by the global JWT filter.
+ */
+@RestController
+public class DashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private JwtVerifier jwtVerifier;
+
+    @GetMapping("/api/dashboard")
+    public Mono<ResponseEntity<DashboardSummary>> dashboard(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        }
+        VerifiedToken verified = jwtVerifier.verify(authorization.substring(7));
+        if (verified == null) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        }
+        if (!dashboardService.isAllowed(verified.getRole())) {
+            return Mono.just(ResponseEntity.status(HttpStatus.FORBIDDEN).build());
+        }
+        return dashboardService.summarize(verified, authorization).map(ResponseEntity::ok);
+    }
+}
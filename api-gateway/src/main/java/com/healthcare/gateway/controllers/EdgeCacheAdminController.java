@@ -0,0 +1,54 @@
+package com.healthcare.gateway.controllers;
+
+import com.healthcare.gateway.cache.EdgeCache;
+import com.healthcare.gateway.security.JwtVerifier;
+import com.healthcare.gateway.security.VerifiedToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Edge cache administration. Served by the gateway itself, so the global JWT filter does not apply
+ * and the admin role is checked here.
+ */
+@RestController
+@RequestMapping("/gateway/edge-cache")
+public class EdgeCacheAdminController {
+
+    @Autowired
+    private EdgeCache edgeCache;
+
+    @Autowired
+    private JwtVerifier jwtVerifier;
+
+    @DeleteMapping
+    public ResponseEntity<Map<String, Object>> purge(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                                     @RequestParam(required = false) String route,
+                                                     @RequestParam(required = false) String prefix) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        VerifiedToken verified = jwtVerifier.verify(authorization.substring(7));
+        if (verified == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (!"ADMIN".equals(verified.getRole())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("route", route);
+        response.put("prefix", prefix);
+        response.put("purged", edgeCache.purge(route, prefix));
+        return ResponseEntity.ok(response);
+    }
+}
@@ -18,7 +18,8 @@ public class WelcomeController {
         response.put("routes", Map.of(
             "docteurs", "/api/docteurs",
             "rdv", "/api/rdv",
-            "notifications", "/api/notifications"
+            "notifications", "/api/notifications",
+            "dashboard", "/api/dashboard"
         ));
         return response;
     }
@@ -0,0 +1,173 @@
+package com.healthcare.gateway.dashboard;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.healthcare.gateway.security.VerifiedToken;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Builds the dashboard in one round-trip for the browser: the doctor count, today's agenda (from the
+ * rdv-service daily projection), the pending invoice summary and the user count are fetched in parallel,
+ * each with its own timeout. Downstream services compute counts and totals, so no full list is transferred.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
+    private static final String DOCTORS = "docteurs";
+    private static final String AGENDA = "agenda";
+    private static final String INVOICES = "factures";
+    private static final String USERS = "utilisateurs";
+
+    // Statut of a cancelled appointment in rdv-service
+    private static final String CANCELLED_STATUS = "ANNULÉ";
+
+    private static final Map<String, Set<String>> SECTIONS_BY_ROLE = Map.of(
+            "ADMIN", Set.of(DOCTORS, AGENDA, INVOICES, USERS),
+            "RECEPTIONIST", Set.of(DOCTORS, AGENDA, INVOICES),
+            "DOCTOR", Set.of(DOCTORS, AGENDA)
+    );
+
+    @Autowired
+    @LoadBalanced
+    private WebClient.Builder webClientBuilder;
+
+    @Value("${gateway.dashboard.timeout:2s}")
+    private Duration timeout;
+
+    @Value("${gateway.dashboard.max-pending-invoices:20}")
+    private int maxPendingInvoices;
+
+    private WebClient webClient;
+
+    @PostConstruct
+    void init() {
+        webClient = webClientBuilder.build();
+    }
+
+    public boolean isAllowed(String role) {
+        return role != null && SECTIONS_BY_ROLE.containsKey(role);
+    }
+
+    public Mono<DashboardSummary> summarize(VerifiedToken caller, String authorization) {
+        Set<String> sections = SECTIONS_BY_ROLE.get(caller.getRole());
+        long start = System.currentTimeMillis();
+
+        Mono<Result> doctors = fetch(sections, DOCTORS, "http://docteur-service/api/docteurs/count", caller, authorization);
+        Mono<Result> agenda = fetch(sections, AGENDA, "http://rdv-service/api/rdv/agenda/" + LocalDate.now(), caller, authorization);
+        Mono<Result> invoices = fetch(sections, INVOICES, "http://billing-service/api/billing/invoices/status/PENDING/summary?limit=" + maxPendingInvoices, caller, authorization);
+        Mono<Result> users = fetch(sections, USERS, "http://auth-service/api/users/page?size=1", caller, authorization);
+
+        return Mono.zip(doctors, agenda, invoices, users)
+                .map(results -> {
+                    DashboardSummary summary = new DashboardSummary();
+                    summary.setRole(caller.getRole());
+                    for (Result result : List.of(results.getT1(), results.getT2(), results.getT3(), results.getT4())) {
+                        apply(summary, result);
+                    }
+                    log.info("Dashboard for {} built in {} ms ({} errors)",
+                            caller.getUsername(), System.currentTimeMillis() - start, summary.getErrors().size());
+                    return summary;
+                });
+    }
+
+    private Mono<Result> fetch(Set<String> sections, String section, String url, VerifiedToken caller, String authorization) {
+        if (!sections.contains(section)) {
+            return Mono.just(Result.skipped(section));
+        }
+        return webClient.get()
+                .uri(url)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .header("X-User-Username", caller.getUsername())
+                .header("X-User-Role", caller.getRole())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(timeout)
+                .map(body -> Result.ok(section, body))
+                .onErrorResume(e -> {
+                    String message = e instanceof TimeoutException ? "Timed out after " + timeout.toMillis() + " ms" : e.getMessage();
+                    log.warn("Dashboard section {} failed: {}", section, message);
+                    return Mono.just(Result.failed(section, message));
+                });
+    }
+
+    private void apply(DashboardSummary summary, Result result) {
+        if (result.error() != null) {
+            summary.getErrors().put(result.section(), result.error());
+            return;
+        }
+        JsonNode body = result.body();
+        if (body == null) {
+            return;
+        }
+        switch (result.section()) {
+            case DOCTORS -> summary.getCounts().put(result.section(), body.path("count").asLong());
+            case USERS -> summary.getCounts().put(result.section(), body.path("totalElements").asLong());
+            case AGENDA -> {
+                long today = 0;
+                // total includes cancelled appointments, which are not part of today's workload
+                for (JsonNode day : body) {
+                    today += day.path("total").asLong() - day.path("countsByStatut").path(CANCELLED_STATUS).asLong();
+                }
+                summary.getCounts().put("rdvAujourdhui", today);
+                summary.setTodayAgenda(body);
+            }
+            case INVOICES -> {
+                summary.getCounts().put("facturesEnAttente", body.path("count").asLong());
+                summary.setPendingInvoices(pendingInvoices(body));
+            }
+            default -> {
+            }
+        }
+    }
+
+    // billing-service returns the count, the total and the earliest-due invoices already sorted and limited
+    private DashboardSummary.PendingInvoices pendingInvoices(JsonNode summary) {
+        DashboardSummary.PendingInvoices pending = new DashboardSummary.PendingInvoices();
+        for (JsonNode invoice : summary.path("oldest")) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", invoice.path("id").asLong());
+            row.put("rdvId", invoice.path("rdvId").asLong());
+            row.put("patientName", invoice.path("patientName").asText(null));
+            row.put("total", invoice.hasNonNull("total") ? invoice.get("total").decimalValue() : null);
+            row.put("dueDate", invoice.path("dueDate").asText(null));
+            pending.getOldest().add(row);
+        }
+        pending.setCount(summary.path("count").asLong());
+        pending.setTotal(summary.hasNonNull("total") ? summary.get("total").decimalValue() : BigDecimal.ZERO);
+        return pending;
+    }
+
+    private record Result(String section, JsonNode body, String error) {
+
+        static Result ok(String section, JsonNode body) {
+            return new Result(section, body, null);
+        }
+
+        static Result failed(String section, String error) {
+            return new Result(section, null, error);
+        }
+
+        static Result skipped(String section) {
+            return new Result(section, null, null);
+        }
+    }
+}
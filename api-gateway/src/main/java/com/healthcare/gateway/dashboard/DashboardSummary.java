@@ -0,0 +1,108 @@
+package com.healthcare.gateway.dashboard;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin dashboard document. Sections the caller's role may not see are omitted; sections whose
+ * service failed or timed out are omitted too and reported in {@code errors}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DashboardSummary {
+
+    private String role;
+    private LocalDateTime generatedAt = LocalDateTime.now();
+    private Map<String, Long> counts = new LinkedHashMap<>();
+    private JsonNode todayAgenda;
+    private PendingInvoices pendingInvoices;
+    private Map<String, String> errors = new LinkedHashMap<>();
+
+    // Getters and Setters
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<String, Long> counts) {
+        this.counts = counts;
+    }
+
+    public JsonNode getTodayAgenda() {
+        return todayAgenda;
+    }
+
+    public void setTodayAgenda(JsonNode todayAgenda) {
+        this.todayAgenda = todayAgenda;
+    }
+
+    public PendingInvoices getPendingInvoices() {
+        return pendingInvoices;
+    }
+
+    public void setPendingInvoices(PendingInvoices pendingInvoices) {
+        this.pendingInvoices = pendingInvoices;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+
+    public static class PendingInvoices {
+
+        private long count;
+        private BigDecimal total = BigDecimal.ZERO;
+        // Earliest due first, limited to gateway.dashboard.max-pending-invoices
+        private List<Map<String, Object>> oldest = new ArrayList<>();
+
+        // Getters and Setters
+        public long getCount() {
+            return count;
+        }
+
+        public void setCount(long count) {
+            this.count = count;
+        }
+
+        public BigDecimal getTotal() {
+            return total;
+        }
+
+        public void setTotal(BigDecimal total) {
+            this.total = total;
+        }
+
+        public List<Map<String, Object>> getOldest() {
+            return oldest;
+        }
+
+        public void setOldest(List<Map<String, Object>> oldest) {
+            this.oldest = oldest;
+        }
+    }
+}
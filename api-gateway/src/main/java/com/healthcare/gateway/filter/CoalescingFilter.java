@@ -0,0 +1,104 @@
+package com.healthcare.gateway.filter;
+
+import com.healthcare.gateway.cache.CachedResponse;
+import com.healthcare.gateway.cache.CapturingResponse;
+import com.healthcare.gateway.config.CoalescingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-flight for GET requests on {@code gateway.coalescing.routes}: while an upstream call for a
+ * key (route, role, path and query) is in flight, identical requests wait for its buffered response
+ * and replay it instead of going upstream. If the response cannot be replayed (too large, streamed,
+ * failed or cancelled) the waiting requests fall back to their own upstream call.
+ */
+@Component
+public class CoalescingFilter implements GlobalFilter, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(CoalescingFilter.class);
+
+    private static final String METRIC = "gateway.coalescing.requests";
+
+    private final ConcurrentHashMap<String, Sinks.One<Optional<CachedResponse>>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    private CoalescingProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void registerGauge() {
+        meterRegistry.gaugeMapSize("gateway.coalescing.in-flight", Tags.empty(), inFlight);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null || request.getMethod() != HttpMethod.GET
+                || !properties.getRoutes().contains(route.getId())) {
+            return chain.filter(exchange);
+        }
+
+        String query = request.getURI().getRawQuery();
+        String key = route.getId() + ' ' + JwtAuthenticationFilter.roleOf(exchange) + ' '
+                + request.getPath().value() + (query != null ? '?' + query : "");
+
+        Sinks.One<Optional<CachedResponse>> sink = Sinks.one();
+        Sinks.One<Optional<CachedResponse>> leader = inFlight.putIfAbsent(key, sink);
+        if (leader != null) {
+            return follow(exchange, chain, route.getId(), leader);
+        }
+
+        meterRegistry.counter(METRIC, "route", route.getId(), "outcome", "upstream").increment();
+        CapturingResponse response = new CapturingResponse(exchange.getResponse(), properties.getMaxBodyBytes(),
+                captured -> sink.tryEmitValue(Optional.of(captured)));
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, sink);
+                    // No-op if the response was already emitted; otherwise releases the waiting requests
+                    sink.tryEmitValue(Optional.empty());
+                });
+    }
+
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain, String routeId,
+                              Sinks.One<Optional<CachedResponse>> leader) {
+        return leader.asMono()
+                .timeout(properties.getMaxWait())
+                .onErrorResume(TimeoutException.class, e -> Mono.just(Optional.empty()))
+                .flatMap(result -> {
+                    if (result.isEmpty()) {
+                        log.debug("Coalesced request on {} could not be replayed, going upstream", routeId);
+                        meterRegistry.counter(METRIC, "route", routeId, "outcome", "fallback").increment();
+                        return chain.filter(exchange);
+                    }
+                    meterRegistry.counter(METRIC, "route", routeId, "outcome", "collapsed").increment();
+                    return result.get().writeTo(exchange.getResponse());
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrders.COALESCING;
+    }
+}
@@ -0,0 +1,95 @@
+package com.healthcare.gateway.filter;
+
+import com.healthcare.gateway.concurrency.GradientLimit;
+import com.healthcare.gateway.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-route bulkhead with an adaptive limit. Requests beyond the route's current limit are rejected
+ * immediately with 503 rather than queued, so a slow service only sheds its own traffic.
+ */
+@Component
+public class ConcurrencyLimitFilter implements GlobalFilter, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final ConcurrentHashMap<String, RouteLimit> limits = new ConcurrentHashMap<>();
+
+    @Autowired
+    private ConcurrencyLimitProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+
+        RouteLimit routeLimit = limits.computeIfAbsent(route.getId(), this::newRouteLimit);
+        GradientLimit limit = routeLimit.limit();
+        int inFlight = limit.tryAcquire();
+        if (inFlight < 0) {
+            routeLimit.rejected().increment();
+            log.debug("Concurrency limit {} reached on route {}, rejecting", limit.getLimit(), route.getId());
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return response.setComplete();
+        }
+
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(done -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (status != null && status.is5xxServerError()) {
+                        limit.onFailure();
+                    } else {
+                        limit.onSuccess(System.nanoTime() - start, inFlight);
+                    }
+                })
+                .doOnError(e -> limit.onFailure())
+                .doOnCancel(limit::onCancel);
+    }
+
+    private RouteLimit newRouteLimit(String routeId) {
+        GradientLimit limit = new GradientLimit(properties);
+        Gauge.builder("gateway.concurrency.limit", limit, GradientLimit::getLimit)
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.in-flight", limit, GradientLimit::getInFlight)
+                .tag("route", routeId)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("gateway.concurrency.rejected")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return new RouteLimit(limit, rejected);
+    }
+
+    private record RouteLimit(GradientLimit limit, Counter rejected) {
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrders.CONCURRENCY_LIMIT;
+    }
+}
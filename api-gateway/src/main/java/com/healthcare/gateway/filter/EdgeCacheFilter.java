@@ -0,0 +1,180 @@
+package com.healthcare.gateway.filter;
+
+import com.healthcare.gateway.cache.CachedResponse;
+import com.healthcare.gateway.cache.CapturingResponse;
+import com.healthcare.gateway.cache.EdgeCache;
+import com.healthcare.gateway.config.EdgeCacheProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Serves GET requests on the routes configured in {@code gateway.edge-cache.ttl} from the edge cache.
+ * Entries are keyed by route, caller role, path and query, so role-dependent responses never leak
+ * across roles. Conditional requests matching the entry's ETag get a 304 without a body.
+ */
+@Component
+public class EdgeCacheFilter implements GlobalFilter, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(EdgeCacheFilter.class);
+
+    private static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    @Autowired
+    private EdgeCache edgeCache;
+
+    @Autowired
+    private EdgeCacheProperties properties;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!properties.isEnabled() || route == null || request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange);
+        }
+        Duration routeTtl = properties.getTtl().get(route.getId());
+        if (routeTtl == null) {
+            return chain.filter(exchange);
+        }
+
+        String path = request.getPath().value();
+        String query = request.getURI().getRawQuery();
+        String key = route.getId() + ' ' + JwtAuthenticationFilter.roleOf(exchange) + ' ' + path + (query != null ? '?' + query : "");
+
+        // A client asking for no-cache skips the lookup; the fresh response replaces the entry
+        boolean revalidate = hasDirective(request.getHeaders().getCacheControl(), "no-cache");
+        EdgeCache.Entry entry = revalidate ? null : edgeCache.get(key);
+        if (entry != null) {
+            return serve(exchange, entry);
+        }
+
+        // Upstream must send a full body we can store; conditional headers are answered here instead
+        ServerHttpRequest unconditional = request.mutate()
+                .headers(headers -> {
+                    headers.remove(HttpHeaders.IF_NONE_MATCH);
+                    headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+                })
+                .build();
+        CapturingResponse response = new CapturingResponse(exchange.getResponse(), properties.getMaxBodyBytes(),
+                captured -> store(key, route.getId(), path, captured, routeTtl));
+        response.beforeCommit(() -> {
+            response.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            return Mono.empty();
+        });
+        return chain.filter(exchange.mutate().request(unconditional).response(response).build());
+    }
+
+    private Mono<Void> serve(ServerWebExchange exchange, EdgeCache.Entry entry) {
+        ServerHttpResponse response = exchange.getResponse();
+        long age = Duration.between(entry.response().getStoredAt(), Instant.now()).toSeconds();
+
+        if (matches(exchange.getRequest().getHeaders().getIfNoneMatch(), entry.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            response.getHeaders().setETag(entry.etag());
+            response.getHeaders().setCacheControl(entry.response().getHeaders().getCacheControl());
+            response.getHeaders().set(HttpHeaders.AGE, Long.toString(age));
+            response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+            return response.setComplete();
+        }
+
+        response.getHeaders().setETag(entry.etag());
+        response.getHeaders().set(HttpHeaders.AGE, Long.toString(age));
+        response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+        return entry.response().writeTo(response);
+    }
+
+    private void store(String key, String routeId, String path, CachedResponse captured, Duration routeTtl) {
+        if (captured.getStatus().value() != HttpStatus.OK.value()) {
+            return;
+        }
+        HttpHeaders headers = captured.getHeaders();
+        String cacheControl = headers.getCacheControl();
+        if (hasDirective(cacheControl, "no-store") || hasDirective(cacheControl, "private")
+                || hasDirective(cacheControl, "no-cache") || headers.getVary().contains("*")) {
+            return;
+        }
+
+        Duration ttl = routeTtl;
+        long maxAge = maxAge(cacheControl);
+        if (maxAge >= 0) {
+            ttl = ttl.compareTo(Duration.ofSeconds(maxAge)) < 0 ? ttl : Duration.ofSeconds(maxAge);
+        }
+        if (ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        edgeCache.put(key, routeId, path, captured, ttl);
+        log.debug("Cached {} for {} s", key, ttl.toSeconds());
+    }
+
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || stripWeak(candidate).equals(stripWeak(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static boolean hasDirective(String cacheControl, String directive) {
+        if (cacheControl == null) {
+            return false;
+        }
+        for (String part : cacheControl.split(",")) {
+            String name = part.trim().toLowerCase(Locale.ROOT);
+            if (name.equals(directive) || name.startsWith(directive + "=")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // s-maxage (meant for shared caches like this one) takes precedence over max-age; -1 when absent
+    private static long maxAge(String cacheControl) {
+        if (cacheControl == null) {
+            return -1;
+        }
+        long maxAge = -1;
+        for (String part : cacheControl.split(",")) {
+            String directive = part.trim().toLowerCase(Locale.ROOT);
+            try {
+                if (directive.startsWith("s-maxage=")) {
+                    return Long.parseLong(directive.substring("s-maxage=".length()));
+                }
+                if (directive.startsWith("max-age=")) {
+                    maxAge = Long.parseLong(directive.substring("max-age=".length()));
+                }
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return maxAge;
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrders.EDGE_CACHE;
+    }
+}
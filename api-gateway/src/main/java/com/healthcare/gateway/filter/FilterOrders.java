@@ -0,0 +1,40 @@
+package com.healthcare.gateway.filter;
+
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.core.Ordered;
+
+/**
+ * Order of the gateway's own global filters. All run before NettyWriteResponseFilter (-1) and the
+ * routing filters, so they can short-circuit a request before it is sent upstream.
+ */
+public final class FilterOrders {
+
+    // Outermost, so its total covers every other filter
+    public static final int SERVER_TIMING = -200;
+
+    public static final int AUTHENTICATION = -100;
+
+    // Needs the identity resolved by authentication
+    public static final int RATE_LIMIT = -90;
+
+    // Wraps the response before NettyWriteResponseFilter writes it
+    public static final int EDGE_CACHE = -4;
+
+    // After the edge cache, so only cache misses are coalesced
+    public static final int COALESCING = -3;
+
+    // Last before the write/routing filters, so cache hits and coalesced requests hold no slot
+    public static final int CONCURRENCY_LIMIT = -2;
+
+    // Right after ReactiveLoadBalancerClientFilter, which has put the chosen instance in the exchange
+    public static final int LOAD_BALANCER_CANCEL = ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+
+    // Around the upstream call, whether it is made by NettyRoutingFilter (Ordered.LOWEST_PRECEDENCE) or hedged
+    public static final int UPSTREAM_TIMING = Ordered.LOWEST_PRECEDENCE - 2;
+
+    // After ReactiveLoadBalancerClientFilter has picked the primary instance
+    public static final int HEDGING = Ordered.LOWEST_PRECEDENCE - 1;
+
+    private FilterOrders() {
+    }
+}
@@ -0,0 +1,234 @@
+package com.healthcare.gateway.filter;
+
+import com.healthcare.gateway.config.HedgingProperties;
+import com.healthcare.gateway.hedge.HedgeBudget;
+import com.healthcare.gateway.hedge.LatencyPercentile;
+import com.healthcare.gateway.loadbalancer.LatencyTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Hedged GETs for routes with {@code metadata.hedge=true}, optionally restricted to the path patterns
+ * in {@code metadata.hedge-paths} (comma-separated). The request goes to the instance chosen by
+ * the load balancer; if it has not answered after the route's observed latency percentile, a second
+ * request goes to a different instance of the same service and the first response wins. Hedges are
+ * limited by a global {@link HedgeBudget}. When the hedge wins, the {@link LatencyTracker} is told so it
+ * penalises the primary's instance and credits the hedged one. Hedged routes are sent here instead of by NettyRoutingFilter,
+ * with bodies buffered up to {@code gateway.hedging.max-body-bytes}.
+ */
+@Component
+public class HedgingFilter implements GlobalFilter, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgingFilter.class);
+
+    private final ConcurrentHashMap<String, LatencyPercentile> latencies = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, List<PathPattern>> hedgePaths = new ConcurrentHashMap<>();
+
+    @Autowired
+    private HedgingProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReactiveDiscoveryClient discoveryClient;
+
+    @Autowired
+    private ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+
+    private WebClient webClient;
+
+    private HedgeBudget budget;
+
+    @PostConstruct
+    void init() {
+        // Plain client: hedged requests target concrete instances, not lb:// service ids
+        webClient = WebClient.builder()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(properties.getMaxBodyBytes()))
+                .build();
+        budget = new HedgeBudget(properties.getBudgetRatio(), properties.getBudgetBurst());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        URI primary = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (!properties.isEnabled() || route == null || primary == null
+                || exchange.getRequest().getMethod() != HttpMethod.GET
+                || !"lb".equals(route.getUri().getScheme())
+                || !"true".equals(String.valueOf(route.getMetadata().get("hedge")))
+                || !matchesHedgePaths(route, exchange)
+                || ServerWebExchangeUtils.isAlreadyRouted(exchange)) {
+            return chain.filter(exchange);
+        }
+        ServerWebExchangeUtils.setAlreadyRouted(exchange);
+
+        String routeId = route.getId();
+        String serviceId = route.getUri().getHost();
+        LatencyPercentile latency = latencies.computeIfAbsent(routeId, id -> new LatencyPercentile(
+                percentileOf(route), properties.getInitialDelay().toNanos()));
+        long delayNanos = Math.max(properties.getMinDelay().toNanos(), latency.valueNanos());
+        budget.deposit();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(), exchange));
+        headers.remove(HttpHeaders.HOST);
+
+        long start = System.nanoTime();
+        // A primary cancelled because the hedge won is still recorded, with its elapsed time as a lower
+        // bound; dropping it would leave only fast samples and keep lowering the hedge delay
+        Mono<Attempt> primaryCall = call(primary, headers, null)
+                .doOnNext(attempt -> latency.record(System.nanoTime() - start))
+                .doOnCancel(() -> latency.record(System.nanoTime() - start));
+        Mono<Attempt> hedgeCall = Mono.delay(Duration.ofNanos(delayNanos))
+                .flatMap(tick -> otherInstance(serviceId, primary))
+                .filter(uri -> {
+                    if (budget.tryWithdraw()) {
+                        return true;
+                    }
+                    meterRegistry.counter("gateway.hedge.budget-exhausted", "route", routeId).increment();
+                    return false;
+                })
+                .flatMap(instance -> {
+                    meterRegistry.counter("gateway.hedge.issued", "route", routeId).increment();
+                    log.debug("Hedging {} on route {} after {} ms", primary.getPath(), routeId, delayNanos / 1_000_000);
+                    return call(hedgeUri(primary, instance), headers, instance);
+                });
+
+        return Mono.firstWithValue(primaryCall, hedgeCall)
+                .timeout(properties.getTimeout())
+                .onErrorMap(TimeoutException.class, e -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Upstream timeout", e))
+                .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                        e -> new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Upstream request failed", e))
+                .flatMap(attempt -> {
+                    if (attempt.hedge() != null) {
+                        meterRegistry.counter("gateway.hedge.won", "route", routeId).increment();
+                        // Read by the load balancer's LatencyTracker when the primary's call completes
+                        exchange.getAttributes().put(LatencyTracker.HEDGE_WON_ATTR,
+                                new LatencyTracker.HedgeWin(attempt.hedge(), attempt.rttNanos()));
+                    }
+                    return write(exchange.getResponse(), attempt.response());
+                });
+    }
+
+    // hedge is the instance a hedged request was sent to, null for the primary
+    private Mono<Attempt> call(URI uri, HttpHeaders headers, ServiceInstance hedge) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return webClient.get()
+                    .uri(uri)
+                    .headers(target -> target.addAll(headers))
+                    .exchangeToMono(response -> response.toEntity(byte[].class))
+                    .map(response -> new Attempt(response, hedge, System.nanoTime() - start));
+        });
+    }
+
+    private Mono<ServiceInstance> otherInstance(String serviceId, URI primary) {
+        return discoveryClient.getInstances(serviceId)
+                .filter(instance -> !(instance.getHost().equals(primary.getHost()) && instance.getPort() == primary.getPort()))
+                .collectList()
+                .flatMap(instances -> {
+                    if (instances.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    return Mono.just(instances.get(ThreadLocalRandom.current().nextInt(instances.size())));
+                });
+    }
+
+    private static URI hedgeUri(URI primary, ServiceInstance instance) {
+        return UriComponentsBuilder.fromUri(primary)
+                .scheme(instance.isSecure() ? "https" : "http")
+                .host(instance.getHost())
+                .port(instance.getPort())
+                .build(true)
+                .toUri();
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, ResponseEntity<byte[]> upstream) {
+        response.setStatusCode(upstream.getStatusCode());
+        upstream.getHeaders().forEach((name, values) -> {
+            if (!HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                    && !HttpHeaders.CONNECTION.equalsIgnoreCase(name)) {
+                response.getHeaders().put(name, values);
+            }
+        });
+        byte[] body = upstream.getBody();
+        if (body == null) {
+            response.getHeaders().setContentLength(0);
+            return response.setComplete();
+        }
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private boolean matchesHedgePaths(Route route, ServerWebExchange exchange) {
+        List<PathPattern> patterns = hedgePaths.computeIfAbsent(route.getId(), id -> {
+            Object configured = route.getMetadata().get("hedge-paths");
+            if (configured == null) {
+                return List.of();
+            }
+            return Arrays.stream(configured.toString().split(","))
+                    .map(String::trim)
+                    .filter(pattern -> !pattern.isEmpty())
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+        });
+        if (patterns.isEmpty()) {
+            return true;
+        }
+        PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double percentileOf(Route route) {
+        Object configured = route.getMetadata().get("hedge-percentile");
+        return configured != null ? Double.parseDouble(configured.toString()) : properties.getPercentile();
+    }
+
+    private record Attempt(ResponseEntity<byte[]> response, ServiceInstance hedge, long rttNanos) {
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrders.HEDGING;
+    }
+}
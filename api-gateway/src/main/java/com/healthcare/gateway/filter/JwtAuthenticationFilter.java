@@ -1,13 +1,15 @@
 package com.healthcare.gateway.filter;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
+import com.healthcare.gateway.security.AccessRule;
+import com.healthcare.gateway.security.JwtVerifier;
+import com.healthcare.gateway.security.RouteAccessTrie;
+import com.healthcare.gateway.security.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -15,38 +17,55 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import javax.crypto.SecretKey;
-import java.util.List;
-import java.util.function.Predicate;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    // Matched access rule and verified identity, for filters running after this one
+    public static final String ACCESS_RULE_ATTR = JwtAuthenticationFilter.class.getName() + ".accessRule";
+    public static final String VERIFIED_TOKEN_ATTR = JwtAuthenticationFilter.class.getName() + ".verifiedToken";
 
-    // Public endpoints that don't require authentication
-    private static final List<String> PUBLIC_ENDPOINTS = List.of(
-            "/api/auth/login",
-            "/api/auth/welcome",
-            "/api/docteurs",
-            "/api/rdv",
-            "/api/billing",
-            "/eureka"
-    );
+    public static final String ANONYMOUS_ROLE = "ANONYMOUS";
+
+    // Identity headers trusted by downstream services; only ever set from a verified token
+    public static final String USERNAME_HEADER = "X-User-Username";
+    public static final String ROLE_HEADER = "X-User-Role";
+
+    // Nanoseconds spent verifying the token, for the Server-Timing header
+    public static final String AUTH_NANOS_ATTR = JwtAuthenticationFilter.class.getName() + ".authNanos";
+
+    @Autowired
+    private JwtVerifier jwtVerifier;
+
+    // Public endpoints and role requirements (gateway.security.rules)
+    @Autowired
+    private RouteAccessTrie routeAccessTrie;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        // Client-supplied identity headers are dropped, even on public endpoints
+        HttpHeaders incoming = exchange.getRequest().getHeaders();
+        if (incoming.containsKey(USERNAME_HEADER) || incoming.containsKey(ROLE_HEADER)) {
+            exchange = exchange.mutate().request(exchange.getRequest().mutate()
+                    .headers(headers -> {
+                        headers.remove(USERNAME_HEADER);
+                        headers.remove(ROLE_HEADER);
+                    })
+                    .build()).build();
+        }
         ServerHttpRequest request = exchange.getRequest();
 
-        // Check if the path is public
-        Predicate<ServerHttpRequest> isPublic = r -> PUBLIC_ENDPOINTS.stream()
-                .anyMatch(uri -> r.getURI().getPath().contains(uri));
-
-        boolean isPublicEndpoint = isPublic.test(request);
+        AccessRule rule = routeAccessTrie.match(request.getMethod(), request.getPath().value());
+        exchange.getAttributes().put(ACCESS_RULE_ATTR, rule);
+        boolean isPublicEndpoint = rule.isPublic();
 
         // Check if Authorization header is present
-        if (!request.getHeaders().containsKey("Authorization")) {
+        String authHeader = request.getHeaders().getFirst("Authorization");
+        if (authHeader == null) {
             // If it's a public endpoint, allow through without authentication
             if (isPublicEndpoint) {
                 return chain.filter(exchange);
@@ -54,8 +73,6 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
             return this.onError(exchange, "No authorization header", HttpStatus.UNAUTHORIZED);
         }
 
-        String authHeader = request.getHeaders().getOrEmpty("Authorization").get(0);
-
         if (!authHeader.startsWith("Bearer ")) {
             // If it's a public endpoint, allow through even with invalid auth format
             if (isPublicEndpoint) {
@@ -66,50 +83,44 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
         String token = authHeader.substring(7);
 
-        try {
-            // Validate token and extract claims
-            Claims claims = validateToken(token);
+        // Validate token and extract username and role
+        long start = System.nanoTime();
+        VerifiedToken verified = jwtVerifier.verify(token);
+        long authNanos = System.nanoTime() - start;
+        exchange.getAttributes().put(AUTH_NANOS_ATTR, authNanos);
+        meterRegistry.timer("gateway.auth", "result", verified != null ? "valid" : "invalid")
+                .record(authNanos, TimeUnit.NANOSECONDS);
 
-            if (claims == null) {
-                // If it's a public endpoint, allow through even with invalid token
-                if (isPublicEndpoint) {
-                    return chain.filter(exchange);
-                }
-                return this.onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
+        if (verified == null) {
+            // If it's a public endpoint, allow through even with invalid token
+            if (isPublicEndpoint) {
+                return chain.filter(exchange);
             }
+            return this.onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
+        }
 
-            // Extract username and role from token
-            String username = claims.getSubject();
-            String role = claims.get("role", String.class);
+        String username = verified.getUsername();
+        String role = verified.getRole();
 
-            // Add username and role to request headers for downstream services
-            ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
-                    .header("X-User-Username", username)
-                    .header("X-User-Role", role)
-                    .build();
+        if (!isPublicEndpoint && !rule.allowsRole(role)) {
+            return this.onError(exchange, "Role " + role + " not allowed on " + rule.getPattern(), HttpStatus.FORBIDDEN);
+        }
 
-            return chain.filter(exchange.mutate().request(modifiedRequest).build());
+        exchange.getAttributes().put(VERIFIED_TOKEN_ATTR, verified);
 
-        } catch (Exception e) {
-            // If it's a public endpoint, allow through even if token validation fails
-            if (isPublicEndpoint) {
-                return chain.filter(exchange);
-            }
-            return this.onError(exchange, "Token validation failed: " + e.getMessage(), HttpStatus.UNAUTHORIZED);
-        }
+        // Add username and role to request headers for downstream services
+        ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
+                .header(USERNAME_HEADER, username)
+                .header(ROLE_HEADER, role)
+                .build();
+
+        return chain.filter(exchange.mutate().request(modifiedRequest).build());
     }
 
-    private Claims validateToken(String token) {
-        try {
-            SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (Exception e) {
-            return null;
-        }
+    // Role of the verified caller, or ANONYMOUS; never taken from client-supplied headers
+    public static String roleOf(ServerWebExchange exchange) {
+        VerifiedToken verified = exchange.getAttribute(VERIFIED_TOKEN_ATTR);
+        return verified != null && verified.getRole() != null ? verified.getRole() : ANONYMOUS_ROLE;
     }
 
     private Mono<Void> onError(ServerWebExchange exchange, String err, HttpStatus httpStatus) {
@@ -120,6 +131,6 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
     @Override
     public int getOrder() {
-        return -1; // Execute before other filters
+        return FilterOrders.AUTHENTICATION; // Execute before other filters
     }
 }
@@ -0,0 +1,48 @@
+package com.healthcare.gateway.filter;
+
+import com.healthcare.gateway.loadbalancer.LatencyTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reports client disconnects on lb:// routes to the service's {@link LatencyTracker}. The load balancer
+ * lifecycle has no cancel callback, so without this every disconnect would leave the chosen instance
+ * with one more request in flight.
+ */
+@Component
+public class LoadBalancerCancelFilter implements GlobalFilter, Ordered {
+
+    @Autowired
+    private LoadBalancerClientFactory loadBalancerClientFactory;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return chain.filter(exchange).doOnCancel(() -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            Response<ServiceInstance> lbResponse = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+            if (route == null || lbResponse == null || !"lb".equals(route.getUri().getScheme())) {
+                return;
+            }
+            // Same per-service child context the load balancer was created in
+            LatencyTracker tracker = loadBalancerClientFactory.getInstance(route.getUri().getHost(), LatencyTracker.class);
+            if (tracker != null) {
+                tracker.onCancel(lbResponse);
+            }
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrders.LOAD_BALANCER_CANCEL;
+    }
+}
@@ -0,0 +1,74 @@
+package com.healthcare.gateway.filter;
+
+import com.healthcare.gateway.ratelimit.RateLimiter;
+import com.healthcare.gateway.security.VerifiedToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits requests per client and route: authenticated calls are keyed by the verified username,
+ * anonymous ones by client IP. Rejected requests get 429 with Retry-After.
+ */
+@Component
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (!rateLimiter.isEnabled() || route == null) {
+            return chain.filter(exchange);
+        }
+
+        // Identity comes from the verified token, never from client-supplied X-User-* headers
+        VerifiedToken verified = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+        String role = JwtAuthenticationFilter.roleOf(exchange);
+        String client = verified != null && verified.getUsername() != null
+                ? "user:" + verified.getUsername()
+                : "ip:" + clientIp(exchange);
+
+        long waitNanos = rateLimiter.tryAcquire(route.getId(), role, client);
+        if (waitNanos == RateLimiter.ALLOWED) {
+            return chain.filter(exchange);
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        log.debug("Rate limit exceeded for {} on route {}, retry after {} s", client, route.getId(), retryAfterSeconds);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return response.setComplete();
+    }
+
+    private static String clientIp(ServerWebExchange exchange) {
+        InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+        if (remote == null) {
+            return "unknown";
+        }
+        return remote.getAddress() != null ? remote.getAddress().getHostAddress() : remote.getHostString();
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrders.RATE_LIMIT;
+    }
+}
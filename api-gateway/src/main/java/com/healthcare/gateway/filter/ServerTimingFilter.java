@@ -0,0 +1,55 @@
+package com.healthcare.gateway.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+
+/**
+ * Adds a {@code Server-Timing} header splitting the time until the response is committed into
+ * token verification, upstream and the rest of the gateway, e.g.
+ * {@code auth;dur=0.1, upstream;dur=42.0, gateway;dur=1.3}.
+ */
+@Component
+public class ServerTimingFilter implements GlobalFilter, Ordered {
+
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        exchange.getResponse().beforeCommit(() -> {
+            long total = System.nanoTime() - start;
+            Long auth = exchange.getAttribute(JwtAuthenticationFilter.AUTH_NANOS_ATTR);
+            Long upstream = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR);
+
+            StringBuilder header = new StringBuilder();
+            long gateway = total;
+            if (auth != null) {
+                header.append(metric("auth", auth)).append(", ");
+                gateway -= auth;
+            }
+            if (upstream != null) {
+                header.append(metric("upstream", upstream)).append(", ");
+                gateway -= upstream;
+            }
+            header.append(metric("gateway", Math.max(0, gateway)));
+            exchange.getResponse().getHeaders().add(SERVER_TIMING, header.toString());
+            return Mono.empty();
+        });
+        return chain.filter(exchange);
+    }
+
+    private static String metric(String name, long nanos) {
+        return name + ";dur=" + String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrders.SERVER_TIMING;
+    }
+}
@@ -0,0 +1,58 @@
+package com.healthcare.gateway.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the upstream call (connection, request and response headers) per route and status class.
+ */
+@Component
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+
+    // Nanoseconds until the upstream response headers arrived, for the Server-Timing header
+    public static final String UPSTREAM_NANOS_ATTR = UpstreamTimingFilter.class.getName() + ".upstreamNanos";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        // doOnTerminate runs before the response is written (and committed) by NettyWriteResponseFilter
+        return chain.filter(exchange)
+                .doOnTerminate(() -> record(exchange, start))
+                .doOnCancel(() -> record(exchange, start));
+    }
+
+    private void record(ServerWebExchange exchange, long start) {
+        long elapsed = System.nanoTime() - start;
+        exchange.getAttributes().put(UPSTREAM_NANOS_ATTR, elapsed);
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        Timer.builder("gateway.upstream")
+                .tag("route", route != null ? route.getId() : "none")
+                .tag("status", statusClass(exchange.getResponse().getStatusCode()))
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    static String statusClass(HttpStatusCode status) {
+        return status == null ? "UNKNOWN" : (status.value() / 100) + "xx";
+    }
+
+    @Override
+    public int getOrder() {
+        return FilterOrders.UPSTREAM_TIMING;
+    }
+}
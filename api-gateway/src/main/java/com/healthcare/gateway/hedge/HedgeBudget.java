@@ -0,0 +1,38 @@
+package com.healthcare.gateway.hedge;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global cap on extra load from hedging: every hedgeable request deposits {@code ratio} of a token,
+ * every hedge withdraws one. Balances are kept in thousandths of a token so updates are plain CAS.
+ */
+public class HedgeBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public HedgeBudget(double ratio, int burst) {
+        this.deposit = Math.round(ratio * SCALE);
+        this.capacity = burst * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    public void deposit() {
+        balance.getAndUpdate(current -> Math.min(capacity, current + deposit));
+    }
+
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+}
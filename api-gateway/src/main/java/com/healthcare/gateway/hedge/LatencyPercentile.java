@@ -0,0 +1,57 @@
+package com.healthcare.gateway.hedge;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Percentile of the most recent response times of one route, from a fixed ring of samples.
+ * Recording is lock-free; the percentile is recomputed by sorting a copy at most once per second.
+ */
+public class LatencyPercentile {
+
+    private static final int SAMPLES = 1024;
+    private static final int MIN_SAMPLES = 50;
+    private static final long RECOMPUTE_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final AtomicLongArray ring = new AtomicLongArray(SAMPLES);
+    private final AtomicLong recorded = new AtomicLong();
+    private final double percentile;
+    private final long fallbackNanos;
+
+    private volatile long cachedNanos;
+    private volatile long computedAt = System.nanoTime() - RECOMPUTE_INTERVAL_NANOS;
+
+    public LatencyPercentile(double percentile, long fallbackNanos) {
+        this.percentile = percentile;
+        this.fallbackNanos = fallbackNanos;
+        this.cachedNanos = fallbackNanos;
+    }
+
+    public void record(long nanos) {
+        ring.set((int) (recorded.getAndIncrement() % SAMPLES), nanos);
+    }
+
+    public long valueNanos() {
+        long now = System.nanoTime();
+        if (now - computedAt >= RECOMPUTE_INTERVAL_NANOS) {
+            computedAt = now;
+            cachedNanos = compute();
+        }
+        return cachedNanos;
+    }
+
+    private long compute() {
+        int count = (int) Math.min(recorded.get(), SAMPLES);
+        if (count < MIN_SAMPLES) {
+            return fallbackNanos;
+        }
+        long[] samples = new long[count];
+        for (int i = 0; i < count; i++) {
+            samples[i] = ring.get(i);
+        }
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return samples[Math.max(0, Math.min(count - 1, index))];
+    }
+}
@@ -0,0 +1,42 @@
+package com.healthcare.gateway.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Per-service load balancer configuration, instantiated in each service's child context (deliberately
+ * not a {@code @Configuration}, so it is not picked up by the main context). Services listed in
+ * {@code gateway.load-balancer.ewma.services} get the {@link EwmaLoadBalancer}; the others keep round-robin.
+ */
+public class GatewayLoadBalancerConfiguration {
+
+    @Bean
+    public LatencyTracker latencyTracker(@Value("${gateway.load-balancer.ewma.decay:10s}") Duration decay,
+                                         @Value("${gateway.load-balancer.ewma.failure-penalty:5s}") Duration failurePenalty) {
+        return new LatencyTracker(decay, failurePenalty);
+    }
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(
+            Environment environment,
+            LoadBalancerClientFactory loadBalancerClientFactory,
+            LatencyTracker latencyTracker,
+            @Value("${gateway.load-balancer.ewma.services:}") List<String> ewmaServices) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        ObjectProvider<ServiceInstanceListSupplier> supplier = loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class);
+        if (ewmaServices.contains(serviceId)) {
+            return new EwmaLoadBalancer(supplier, serviceId, latencyTracker);
+        }
+        return new RoundRobinLoadBalancer(supplier, serviceId);
+    }
+}
@@ -0,0 +1,174 @@
+package com.healthcare.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-instance peak EWMA of response time and in-flight count for one load-balanced service, fed by
+ * the gateway's load balancer lifecycle callbacks. A slower sample raises the average immediately;
+ * faster samples and idle time bring it back down with time constant {@code decay}, so a penalised
+ * instance is probed again once it has had time to recover. The load balancer reports success and
+ * error but not cancellation, so {@code LoadBalancerCancelFilter} reports client disconnects through
+ * {@link #onCancel}, keeping the in-flight counts exact. When {@code HedgingFilter} answers from a hedged
+ * instance it sets {@link #HEDGE_WON_ATTR}: the primary is then charged its elapsed time plus the failure
+ * penalty, and the hedge's round trip is recorded against the instance that answered.
+ */
+public class LatencyTracker implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    // Exchange attribute holding the HedgeWin of a request answered by a hedged instance
+    public static final String HEDGE_WON_ATTR = LatencyTracker.class.getName() + ".hedgeWon";
+
+    private final ConcurrentHashMap<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<IdentityKey, Pending> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<IdentityKey, IdentityKey> requestsByResponse = new ConcurrentHashMap<>();
+    private final double decayNanos;
+    private final long failurePenaltyNanos;
+
+    public LatencyTracker(Duration decay, Duration failurePenalty) {
+        this.decayNanos = decay.toNanos();
+        this.failurePenaltyNanos = failurePenalty.toNanos();
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (!lbResponse.hasServer()) {
+            return;
+        }
+        InstanceStats instance = statsOf(lbResponse.getServer());
+        instance.inFlight.incrementAndGet();
+        IdentityKey requestKey = new IdentityKey(request);
+        pending.put(requestKey, new Pending(lbResponse, instance, System.nanoTime()));
+        requestsByResponse.put(new IdentityKey(lbResponse), requestKey);
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> context) {
+        Pending call = finish(new IdentityKey(context.getLoadBalancerRequest()));
+        if (call == null) {
+            return;
+        }
+        InstanceStats instance = call.stats();
+
+        long now = System.nanoTime();
+        long rtt = now - call.start();
+        HedgeWin hedgeWin = hedgeWin(context.getLoadBalancerRequest());
+        if (hedgeWin != null) {
+            // The total time is the hedge's: the primary took longer than that, by an unknown amount
+            rtt += failurePenaltyNanos;
+            statsOf(hedgeWin.instance()).observe(hedgeWin.rttNanos(), now, decayNanos);
+        } else if (context.status() == CompletionContext.Status.FAILED || isServerError(context.getClientResponse())) {
+            rtt = Math.max(rtt, failurePenaltyNanos);
+        }
+        instance.observe(rtt, now, decayNanos);
+    }
+
+    /**
+     * Releases the in-flight slot of a request abandoned by the client. No latency sample is recorded:
+     * the time until the disconnect says nothing about the instance.
+     */
+    public void onCancel(Response<ServiceInstance> lbResponse) {
+        IdentityKey requestKey = requestsByResponse.get(new IdentityKey(lbResponse));
+        if (requestKey != null) {
+            finish(requestKey);
+        }
+    }
+
+    // Removal decides which of onComplete and onCancel releases the slot, so it is released exactly once
+    private Pending finish(IdentityKey requestKey) {
+        Pending call = pending.remove(requestKey);
+        if (call == null) {
+            return null;
+        }
+        requestsByResponse.remove(new IdentityKey(call.lbResponse()));
+        call.stats().inFlight.decrementAndGet();
+        return call;
+    }
+
+    /**
+     * Expected cost of sending one more request to the instance: decayed latency times queue depth.
+     * Instances without samples cost nothing, so new instances are tried first.
+     */
+    public double cost(ServiceInstance instance) {
+        InstanceStats instanceStats = stats.get(key(instance));
+        if (instanceStats == null) {
+            return 0;
+        }
+        return instanceStats.ewma(System.nanoTime(), decayNanos) * (instanceStats.inFlight.get() + 1);
+    }
+
+    private InstanceStats statsOf(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), id -> new InstanceStats());
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getInstanceId() != null ? instance.getInstanceId() : instance.getHost() + ":" + instance.getPort();
+    }
+
+    private static HedgeWin hedgeWin(Request<Object> request) {
+        if (request != null && request.getContext() instanceof RequestDataContext context
+                && context.getClientRequest() != null && context.getClientRequest().getAttributes() != null) {
+            return context.getClientRequest().getAttributes().get(HEDGE_WON_ATTR) instanceof HedgeWin win ? win : null;
+        }
+        return null;
+    }
+
+    private static boolean isServerError(Object clientResponse) {
+        return clientResponse instanceof ResponseData response
+                && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError();
+    }
+
+    private static final class InstanceStats {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double ewmaNanos;
+        private long lastUpdate = System.nanoTime();
+
+        private synchronized void observe(long rtt, long now, double decayNanos) {
+            double current = ewma(now, decayNanos);
+            if (rtt > current) {
+                ewmaNanos = rtt;
+            } else {
+                double weight = Math.exp(-Math.max(0, now - lastUpdate) / decayNanos);
+                ewmaNanos = ewmaNanos * weight + rtt * (1 - weight);
+            }
+            lastUpdate = now;
+        }
+
+        private synchronized double ewma(long now, double decayNanos) {
+            return ewmaNanos * Math.exp(-Math.max(0, now - lastUpdate) / decayNanos);
+        }
+    }
+
+    /** A request answered by a hedged instance, with the hedge's own round-trip time. */
+    public record HedgeWin(ServiceInstance instance, long rttNanos) {
+    }
+
+    private record Pending(Response<ServiceInstance> lbResponse, InstanceStats stats, long start) {
+    }
+
+    // The same Request and Response objects are passed to every callback of a call; compare by identity
+    private record IdentityKey(Object target) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey key && key.target == target;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(target);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.healthcare.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.healthcare.gateway.config.GatewayRateLimitProperties;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process rate limiter using the generic cell rate algorithm: each client bucket is a single
+ * {@link AtomicLong} holding the theoretical arrival time of the next request, updated with CAS,
+ * so no locks are taken on the request path. Buckets live in a bounded, idle-expiring table.
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+
+    // Returned by tryAcquire when the request is allowed
+    public static final long ALLOWED = 0;
+
+    @Autowired
+    private GatewayRateLimitProperties properties;
+
+    // route -> role -> limit, with GatewayRateLimitProperties.ANY as wildcard on both levels
+    private final Map<String, Map<String, Rate>> rates = new HashMap<>();
+
+    private Cache<String, Bucket> buckets;
+
+    @PostConstruct
+    void init() {
+        for (GatewayRateLimitProperties.Limit limit : properties.getLimits()) {
+            if (limit.getRequestsPerSecond() <= 0 || limit.getBurst() < 1) {
+                throw new IllegalArgumentException("Invalid gateway.rate-limit for route " + limit.getRoute()
+                        + " and role " + limit.getRole() + ": requests-per-second must be > 0 and burst >= 1");
+            }
+            rates.computeIfAbsent(limit.getRoute(), route -> new HashMap<>())
+                    .put(limit.getRole(), new Rate(limit.getRequestsPerSecond(), limit.getBurst()));
+        }
+        buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(Duration.ofSeconds(properties.getIdleExpirySeconds()))
+                .build();
+        log.info("Rate limiter {} with {} limits, tracking up to {} clients",
+                properties.isEnabled() ? "enabled" : "disabled", properties.getLimits().size(), properties.getMaxKeys());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Takes one request from the client's bucket on the route. Returns {@link #ALLOWED}, or the number
+     * of nanoseconds until the client may retry.
+     */
+    public long tryAcquire(String routeId, String role, String client) {
+        Rate rate = resolve(routeId, role);
+        if (rate == null) {
+            return ALLOWED;
+        }
+        Bucket bucket = buckets.get(routeId + '|' + client, key -> new Bucket(rate));
+        return bucket.tryAcquire(System.nanoTime());
+    }
+
+    private Rate resolve(String routeId, String role) {
+        Rate rate = lookup(rates.get(routeId), role);
+        return rate != null ? rate : lookup(rates.get(GatewayRateLimitProperties.ANY), role);
+    }
+
+    private static Rate lookup(Map<String, Rate> byRole, String role) {
+        if (byRole == null) {
+            return null;
+        }
+        Rate rate = byRole.get(role);
+        return rate != null ? rate : byRole.get(GatewayRateLimitProperties.ANY);
+    }
+
+    private record Rate(long emissionIntervalNanos, long burstToleranceNanos) {
+
+        Rate(double requestsPerSecond, int burst) {
+            this((long) (1_000_000_000L / requestsPerSecond), (long) ((burst - 1) * (1_000_000_000L / requestsPerSecond)));
+        }
+    }
+
+    private static final class Bucket {
+        private final Rate rate;
+        // Theoretical arrival time: the bucket is empty while now < tat - burstTolerance
+        private final AtomicLong tat;
+
+        private Bucket(Rate rate) {
+            this.rate = rate;
+            this.tat = new AtomicLong(System.nanoTime());
+        }
+
+        private long tryAcquire(long now) {
+            while (true) {
+                long current = tat.get();
+                long next = Math.max(current, now) + rate.emissionIntervalNanos();
+                long allowAt = next - rate.emissionIntervalNanos() - rate.burstToleranceNanos();
+                if (allowAt > now) {
+                    return allowAt - now;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return ALLOWED;
+                }
+            }
+        }
+    }
+}
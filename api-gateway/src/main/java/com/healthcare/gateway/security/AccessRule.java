@@ -0,0 +1,48 @@
+package com.healthcare.gateway.security;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Outcome of the route lookup: whether the request needs a valid token and, if so, which roles may pass.
+ */
+public final class AccessRule {
+
+    public enum Access { PUBLIC, AUTHENTICATED }
+
+    private final String pattern;
+    private final Access access;
+    private final Set<String> roles;
+
+    public AccessRule(String pattern, Access access, List<String> roles) {
+        this.pattern = pattern;
+        this.access = access;
+        this.roles = Set.copyOf(roles);
+    }
+
+    public boolean isPublic() {
+        return access == Access.PUBLIC;
+    }
+
+    public boolean allowsRole(String role) {
+        return roles.isEmpty() || (role != null && roles.contains(role));
+    }
+
+    // Getters
+    public String getPattern() {
+        return pattern;
+    }
+
+    public Access getAccess() {
+        return access;
+    }
+
+    public Set<String> getRoles() {
+        return roles;
+    }
+
+    @Override
+    public String toString() {
+        return pattern + " " + access + (roles.isEmpty() ? "" : " " + roles);
+    }
+}
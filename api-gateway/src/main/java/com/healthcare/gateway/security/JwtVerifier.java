@@ -0,0 +1,124 @@
+package com.healthcare.gateway.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.healthcare.jwt.JwtClaims;
+import com.healthcare.jwt.JwtKeyRing;
+import com.healthcare.jwt.JwtTokenVerifier;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Verifies bearer tokens with the shared {@link JwtTokenVerifier}. Successfully verified tokens
+ * are cached by their SHA-256 digest until their own expiry, so repeated requests from the same
+ * session skip parsing and the HMAC check. The raw token is never kept in memory, and the cache
+ * is cleared whenever the key ring rotates so tokens signed with a retired key stop working.
+ */
+@Component
+public class JwtVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtVerifier.class);
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    @Autowired
+    private JwtKeyRing keyRing;
+
+    @Autowired
+    private JwtTokenVerifier tokenVerifier;
+
+    @Autowired
+    private RevocationList revocationList;
+
+    @Value("${jwt.cache.maximum-size:100000}")
+    private long cacheMaximumSize;
+
+    @Value("${jwt.cache.max-ttl-seconds:3600}")
+    private long cacheMaxTtlSeconds;
+
+    private Cache<TokenDigest, VerifiedToken> verified;
+
+    @PostConstruct
+    void init() {
+        long maxTtlNanos = Duration.ofSeconds(cacheMaxTtlSeconds).toNanos();
+        verified = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new Expiry<TokenDigest, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+                        long remaining = Duration.between(Instant.now(), value.getExpiresAt()).toNanos();
+                        return Math.max(0, Math.min(remaining, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        keyRing.addRotationListener(verified::invalidateAll);
+        log.info("JWT verifier ready (claims cache up to {} tokens)", cacheMaximumSize);
+    }
+
+    /**
+     * Returns the token's identity, or null if the signature is invalid, the token is malformed, expired or revoked.
+     */
+    public VerifiedToken verify(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        VerifiedToken cached = verified.getIfPresent(digest);
+        if (cached != null) {
+            // Revocations arrive after a token is cached, so they are checked on every call
+            return revocationList.isRevoked(cached) ? null : cached;
+        }
+
+        JwtClaims claims = tokenVerifier.verify(token);
+        if (claims == null) {
+            return null;
+        }
+
+        Instant expiration = claims.getExpiresAt();
+        VerifiedToken result = new VerifiedToken(claims.getTokenId(), claims.getSubject(), claims.getRole(),
+                claims.getIssuedAt(), expiration == null ? Instant.now() : expiration);
+        if (revocationList.isRevoked(result)) {
+            return null;
+        }
+        // Tokens without an expiry are accepted but never cached
+        if (expiration != null) {
+            verified.put(digest, result);
+        }
+        return result;
+    }
+
+    // 256-bit digest held as four longs: cheap equals/hashCode and no reference to the token
+    private record TokenDigest(long a, long b, long c, long d) {
+
+        static TokenDigest of(String token) {
+            MessageDigest sha256 = SHA256.get();
+            ByteBuffer hash = ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.healthcare.gateway.security;
+
+import java.time.Instant;
+
+/**
+ * Revocation broadcast by auth-service: every token of a user issued up to {@code revokedAt} (USER),
+ * or a single token by jti (TOKEN). Irrelevant once {@code expiresAt} has passed.
+ */
+public class RevocationEvent {
+
+    public static final String USER = "USER";
+    public static final String TOKEN = "TOKEN";
+
+    private String type;
+    private String value;
+    private Instant revokedAt;
+    private Instant expiresAt;
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(Instant revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.healthcare.gateway.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RevocationEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationEventListener.class);
+
+    @Autowired
+    private RevocationList revocationList;
+
+    // Anonymous, auto-delete queue per gateway instance so every instance sees every revocation
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue,
+            exchange = @Exchange(value = "${rabbitmq.exchange.revocations}", type = ExchangeTypes.FANOUT)))
+    public void handleRevocation(RevocationEvent event) {
+        log.info("Received {} revocation for {}", event.getType(), event.getValue());
+        revocationList.add(event);
+    }
+}
@@ -0,0 +1,161 @@
+package com.healthcare.gateway.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of auth-service's active revocations, checked on every authenticated request.
+ * A Bloom filter answers the common "not revoked" case without touching the exact set; positives are
+ * confirmed in a map keyed by type and value. The list is bootstrapped from auth-service's snapshot and
+ * kept current by events on the revocations fanout exchange. The snapshot is also re-pulled periodically,
+ * so a revocation whose broadcast was lost still reaches the gateway within one resync interval.
+ * Expired entries are pruned and the filter rebuilt periodically.
+ */
+@Component
+public class RevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationList.class);
+
+    private static final int USER_SEED = 1;
+    private static final int TOKEN_SEED = 2;
+
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    private volatile BloomFilter filter;
+
+    @Autowired
+    @LoadBalanced
+    private WebClient.Builder webClientBuilder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${gateway.revocation.expected-entries:100000}")
+    private long expectedEntries;
+
+    @Value("${gateway.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${gateway.revocation.snapshot-url:http://auth-service/api/auth/revocations}")
+    private String snapshotUrl;
+
+    // Checked by auth-service before it returns the snapshot
+    @Value("${gateway.revocation.service-token:}")
+    private String serviceToken;
+
+    @PostConstruct
+    void init() {
+        filter = new BloomFilter(expectedEntries, falsePositiveRate);
+        Gauge.builder("gateway.revocations.size", entries, ConcurrentHashMap::size).register(meterRegistry);
+    }
+
+    // Events received before the snapshot arrives are kept: applying an entry twice is harmless
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        fetchSnapshot()
+                .retryWhen(Retry.backoff(10, Duration.ofSeconds(2)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe(
+                        snapshot -> {
+                            snapshot.forEach(this::add);
+                            log.info("Loaded {} active token revocations from auth-service", snapshot.size());
+                        },
+                        error -> log.error("Could not load token revocations from auth-service: {}", error.getMessage()));
+    }
+
+    // Safety net for broadcasts lost while RabbitMQ or this listener was unavailable
+    @Scheduled(fixedDelayString = "${gateway.revocation.resync-interval-ms:30000}",
+            initialDelayString = "${gateway.revocation.resync-interval-ms:30000}")
+    public void resync() {
+        fetchSnapshot().subscribe(
+                snapshot -> {
+                    snapshot.forEach(this::add);
+                    log.debug("Resynced {} active token revocations from auth-service", snapshot.size());
+                },
+                error -> log.warn("Token revocation resync failed: {}", error.getMessage()));
+    }
+
+    private Mono<List<RevocationEvent>> fetchSnapshot() {
+        return webClientBuilder.build()
+                .get()
+                .uri(snapshotUrl)
+                .header("X-Service-Token", serviceToken)
+                .retrieve()
+                .bodyToFlux(RevocationEvent.class)
+                .collectList();
+    }
+
+    public void add(RevocationEvent event) {
+        if (event.getValue() == null || event.getExpiresAt() == null || event.getRevokedAt() == null) {
+            return;
+        }
+        boolean user = RevocationEvent.USER.equals(event.getType());
+        Key key = new Key(user, event.getValue());
+        Entry entry = new Entry(event.getRevokedAt().toEpochMilli(),
+                event.getExpiresAt().toEpochMilli());
+        synchronized (writeLock) {
+            entries.merge(key, entry, Entry::latest);
+            filter.add(user ? USER_SEED : TOKEN_SEED, event.getValue());
+        }
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        BloomFilter current = filter;
+        long now = System.currentTimeMillis();
+        if (token.getTokenId() != null && current.mightContain(TOKEN_SEED, token.getTokenId())) {
+            Entry entry = entries.get(new Key(false, token.getTokenId()));
+            if (entry != null && entry.expiresAt > now) {
+                return true;
+            }
+        }
+        if (token.getUsername() != null && current.mightContain(USER_SEED, token.getUsername())) {
+            Entry entry = entries.get(new Key(true, token.getUsername()));
+            // Issue time has millisecond precision (iat_ms): tokens issued after the revocation, such as a new login, stay valid
+            long issuedAt = token.getIssuedAt() == null ? 0 : token.getIssuedAt().toEpochMilli();
+            return entry != null && entry.expiresAt > now && issuedAt < entry.revokedAt;
+        }
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${gateway.revocation.prune-interval-ms:60000}")
+    public void pruneExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (writeLock) {
+            if (!entries.values().removeIf(entry -> entry.expiresAt <= now)) {
+                return;
+            }
+            BloomFilter rebuilt = new BloomFilter(expectedEntries, falsePositiveRate);
+            entries.keySet().forEach(key -> rebuilt.add(key.user() ? USER_SEED : TOKEN_SEED, key.value()));
+            filter = rebuilt;
+        }
+        log.debug("Pruned expired token revocations at {}, {} remain", Instant.ofEpochMilli(now), entries.size());
+    }
+
+    private record Key(boolean user, String value) {
+    }
+
+    private record Entry(long revokedAt, long expiresAt) {
+
+        static Entry latest(Entry a, Entry b) {
+            return new Entry(Math.max(a.revokedAt, b.revokedAt), Math.max(a.expiresAt, b.expiresAt));
+        }
+    }
+}
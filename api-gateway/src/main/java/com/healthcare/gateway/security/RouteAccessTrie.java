@@ -0,0 +1,172 @@
+package com.healthcare.gateway.security;
+
+import com.healthcare.gateway.config.GatewaySecurityProperties;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Path-segment trie compiled once from {@link GatewaySecurityProperties}. {@link #match} walks the
+ * request path in place (segment bounds over the original string, no substrings or iterators), so the
+ * per-request lookup does not allocate. Exact rules beat prefix ({@code /**}) rules on the same node,
+ * deeper nodes beat shallower ones and literal segments beat {@code *}.
+ */
+@Component
+public class RouteAccessTrie {
+
+    private static final Logger log = LoggerFactory.getLogger(RouteAccessTrie.class);
+
+    private static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE"};
+    private static final int ANY_METHOD = METHODS.length;
+
+    @Autowired
+    private GatewaySecurityProperties properties;
+
+    private Node root;
+
+    private AccessRule defaultRule;
+
+    @PostConstruct
+    void compile() {
+        root = new Node();
+        defaultRule = new AccessRule("(default)", properties.getDefaultAccess(), List.of());
+        for (GatewaySecurityProperties.Rule rule : properties.getRules()) {
+            add(rule);
+        }
+        log.info("Compiled {} gateway access rules (default {})", properties.getRules().size(), defaultRule.getAccess());
+    }
+
+    public AccessRule match(HttpMethod method, String path) {
+        int methodIndex = methodIndex(method);
+        Node node = root;
+        AccessRule best = node.prefixRule(methodIndex);
+
+        int length = path.length();
+        int start = 0;
+        while (node != null) {
+            while (start < length && path.charAt(start) == '/') {
+                start++;
+            }
+            if (start >= length) {
+                AccessRule exact = node.exactRule(methodIndex);
+                return exact != null ? exact : best != null ? best : defaultRule;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.child(path, start, end);
+            if (node != null) {
+                AccessRule prefix = node.prefixRule(methodIndex);
+                if (prefix != null) {
+                    best = prefix;
+                }
+            }
+            start = end;
+        }
+        return best != null ? best : defaultRule;
+    }
+
+    private void add(GatewaySecurityProperties.Rule rule) {
+        String path = rule.getPath();
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("gateway.security rule without a path");
+        }
+        boolean prefix = path.endsWith("/**");
+        String literal = prefix ? path.substring(0, path.length() - 3) : path;
+
+        Node node = root;
+        for (String segment : literal.split("/")) {
+            if (!segment.isEmpty()) {
+                node = node.childForInsert(segment);
+            }
+        }
+
+        AccessRule accessRule = new AccessRule(rule.getMethods().isEmpty() ? path : rule.getMethods() + " " + path,
+                rule.getAccess(), rule.getRoles());
+        AccessRule[] target = prefix ? node.prefix : node.exact;
+        if (rule.getMethods().isEmpty()) {
+            target[ANY_METHOD] = accessRule;
+        } else {
+            for (String method : rule.getMethods()) {
+                int index = Arrays.asList(METHODS).indexOf(method.trim().toUpperCase(Locale.ROOT));
+                if (index < 0) {
+                    throw new IllegalArgumentException("Unknown HTTP method in gateway.security rule " + path + ": " + method);
+                }
+                target[index] = accessRule;
+            }
+        }
+    }
+
+    private static int methodIndex(HttpMethod method) {
+        if (method == null) {
+            return ANY_METHOD;
+        }
+        String name = method.name();
+        for (int i = 0; i < METHODS.length; i++) {
+            if (METHODS[i].equals(name)) {
+                return i;
+            }
+        }
+        return ANY_METHOD;
+    }
+
+    private static final class Node {
+        private String[] names = new String[0];
+        private Node[] children = new Node[0];
+        private Node wildcard;
+        // Indexed by METHODS position, ANY_METHOD last
+        private final AccessRule[] exact = new AccessRule[METHODS.length + 1];
+        private final AccessRule[] prefix = new AccessRule[METHODS.length + 1];
+
+        private Node child(String path, int start, int end) {
+            int length = end - start;
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name.length() == length && path.regionMatches(start, name, 0, length)) {
+                    return children[i];
+                }
+            }
+            return wildcard;
+        }
+
+        private Node childForInsert(String segment) {
+            if ("*".equals(segment)) {
+                if (wildcard == null) {
+                    wildcard = new Node();
+                }
+                return wildcard;
+            }
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+            names = Arrays.copyOf(names, names.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            names[names.length - 1] = segment;
+            children[children.length - 1] = new Node();
+            return children[children.length - 1];
+        }
+
+        private AccessRule exactRule(int methodIndex) {
+            AccessRule rule = methodIndex < ANY_METHOD ? exact[methodIndex] : null;
+            if (rule == null) {
+                rule = exact[ANY_METHOD];
+            }
+            return rule != null ? rule : prefixRule(methodIndex);
+        }
+
+        private AccessRule prefixRule(int methodIndex) {
+            AccessRule rule = methodIndex < ANY_METHOD ? prefix[methodIndex] : null;
+            return rule != null ? rule : prefix[ANY_METHOD];
+        }
+    }
+}
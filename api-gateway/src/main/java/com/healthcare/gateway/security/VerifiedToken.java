@@ -0,0 +1,44 @@
+package com.healthcare.gateway.security;
+
+import java.time.Instant;
+
+/**
+ * Identity extracted from a token whose signature and expiry have been checked.
+ */
+public class VerifiedToken {
+
+    private final String tokenId;
+    private final String username;
+    private final String role;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String tokenId, String username, String role, Instant issuedAt, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.username = username;
+        this.role = role;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
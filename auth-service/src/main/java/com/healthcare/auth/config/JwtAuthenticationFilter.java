@@ -1,6 +1,7 @@
 package com.healthcare.auth.config;
 
 import com.healthcare.auth.utils.JwtUtil;
+import com.healthcare.jwt.JwtClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,9 +32,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
 
             try {
-                if (jwtUtil.validateToken(token)) {
-                    String username = jwtUtil.extractUsername(token);
-                    String role = jwtUtil.extractRole(token);
+                JwtClaims claims = jwtUtil.parseToken(token);
+                if (claims != null) {
+                    String username = claims.getSubject();
+                    String role = claims.getRole();
 
                     UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
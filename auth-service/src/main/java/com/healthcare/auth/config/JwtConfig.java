@@ -0,0 +1,22 @@
+package com.healthcare.auth.config;
+
+import com.healthcare.jwt.JwtKeyRing;
+import com.healthcare.jwt.JwtTokenSigner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * The key ring and verifier come from jwt-common's auto-configuration; only auth-service signs tokens,
+ * always with the ring's active key ({@code jwt.active-kid}).
+ */
+@Configuration
+public class JwtConfig {
+
+    @Bean
+    public JwtTokenSigner jwtTokenSigner(JwtKeyRing keyRing, @Value("${jwt.expiration:86400000}") long expirationMs) {
+        return new JwtTokenSigner(keyRing, Duration.ofMillis(expirationMs));
+    }
+}
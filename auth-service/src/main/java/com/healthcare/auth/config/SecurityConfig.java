@@ -29,8 +29,12 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/login",
+                                "/api/auth/refresh",
+                                "/api/auth/logout",
+                                "/api/auth/revocations",
                                 "/api/auth/welcome",
                                 "/api/auth/validate",
+                                "/api/auth/introspect",
                                 "/api/auth/me").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
                         .anyRequest().authenticated()
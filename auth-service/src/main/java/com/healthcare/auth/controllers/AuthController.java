@@ -1,26 +1,47 @@
 package com.healthcare.auth.controllers;
 
 import com.healthcare.auth.entities.User;
+import com.healthcare.auth.events.RevocationEvent;
+import com.healthcare.auth.models.IntrospectRequest;
 import com.healthcare.auth.models.LoginRequest;
 import com.healthcare.auth.models.LoginResponse;
+import com.healthcare.auth.models.RefreshRequest;
 import com.healthcare.auth.models.RegisterRequest;
 import com.healthcare.auth.services.AuthService;
+import com.healthcare.auth.services.RevocationService;
+import com.healthcare.jwt.JwtClaims;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
+    public static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
+
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private RevocationService revocationService;
+
+    @Value("${auth.introspect.max-tokens:500}")
+    private int maxIntrospectTokens;
+
+    @Value("${auth.revocations.service-token:}")
+    private String revocationsServiceToken;
+
     // Registration disabled - only admin can create users through admin panel
     // @PostMapping("/register")
     // public ResponseEntity<LoginResponse> register(@Valid @RequestBody RegisterRequest request) {
@@ -34,16 +55,53 @@ public class AuthController {
     // }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = authService.loginUser(request);
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
+        return authService.loginUser(request).thenApply(response -> {
+            if (response.getToken() == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            }
 
-        if (response.getToken() == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+            return ResponseEntity.ok(response);
+        });
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        LoginResponse response = authService.refresh(request.getRefreshToken());
+
+        if (response == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new LoginResponse(null, null, null, "Invalid or expired refresh token"));
         }
 
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<Map<String, Object>> logout(
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestBody(required = false) RefreshRequest request) {
+        String accessToken = authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+        authService.logout(request == null ? null : request.getRefreshToken(), accessToken);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Logged out");
+        return ResponseEntity.ok(response);
+    }
+
+    // Active revocations, read by gateway instances at startup (then kept current over RabbitMQ).
+    // Usernames and token ids are sensitive: only callers holding the shared service token get them
+    @GetMapping("/revocations")
+    public ResponseEntity<List<RevocationEvent>> getRevocations(
+            @RequestHeader(value = SERVICE_TOKEN_HEADER, required = false) String serviceToken) {
+        if (serviceToken == null || revocationsServiceToken.isEmpty()
+                || !MessageDigest.isEqual(serviceToken.getBytes(StandardCharsets.UTF_8),
+                        revocationsServiceToken.getBytes(StandardCharsets.UTF_8))) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(revocationService.snapshot());
+    }
+
     @PostMapping("/validate")
     public ResponseEntity<Map<String, Object>> validateToken(@RequestHeader("Authorization") String authHeader) {
         Map<String, Object> response = new HashMap<>();
@@ -55,15 +113,12 @@ public class AuthController {
         }
 
         String token = authHeader.substring(7);
-        Boolean isValid = authService.validateToken(token);
-
-        if (isValid) {
-            String username = authService.getUsernameFromToken(token);
-            String role = authService.getRoleFromToken(token);
+        JwtClaims claims = authService.verifyToken(token);
 
+        if (claims != null) {
             response.put("valid", true);
-            response.put("username", username);
-            response.put("role", role);
+            response.put("username", claims.getSubject());
+            response.put("role", claims.getRole());
             return ResponseEntity.ok(response);
         } else {
             response.put("valid", false);
@@ -72,6 +127,18 @@ public class AuthController {
         }
     }
 
+    // Batch counterpart of /validate for internal callers: one result per token, in request order
+    @PostMapping("/introspect")
+    public ResponseEntity<?> introspect(@Valid @RequestBody IntrospectRequest request) {
+        if (request.getTokens().size() > maxIntrospectTokens) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("error", "At most " + maxIntrospectTokens + " tokens per request");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        return ResponseEntity.ok(authService.introspect(request.getTokens()));
+    }
+
     @GetMapping("/me")
     public ResponseEntity<Map<String, Object>> getCurrentUser(@RequestHeader("Authorization") String authHeader) {
         Map<String, Object> response = new HashMap<>();
@@ -83,13 +150,13 @@ public class AuthController {
 
         String token = authHeader.substring(7);
 
-        if (!authService.validateToken(token)) {
+        JwtClaims claims = authService.verifyToken(token);
+        if (claims == null) {
             response.put("error", "Invalid or expired token");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
         }
 
-        String username = authService.getUsernameFromToken(token);
-        User user = authService.getUserByUsername(username);
+        User user = authService.getUserByUsername(claims.getSubject());
 
         if (user == null) {
             response.put("error", "User not found");
@@ -1,42 +1,98 @@
 package com.healthcare.auth.controllers;
 
 import com.healthcare.auth.entities.User;
+import com.healthcare.auth.models.PageResponse;
+import com.healthcare.auth.models.UserLookupRequest;
+import com.healthcare.auth.models.UserSummary;
 import com.healthcare.auth.repositories.UserRepository;
+import com.healthcare.auth.services.PasswordHashingService;
+import com.healthcare.auth.services.RevocationService;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of("id", "username", "email", "role", "enabled");
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private RevocationService revocationService;
+
+    @Value("${auth.users.lookup-max-usernames:1000}")
+    private int lookupMaxUsernames;
 
+    @Value("${auth.users.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${auth.users.page.max-size:100}")
+    private int maxPageSize;
+
+    // Unpaged list kept for existing clients; prefer /page for large user bases
     @GetMapping
-    public ResponseEntity<List<Map<String, Object>>> getAllUsers() {
-        List<User> users = userRepository.findAll();
-        List<Map<String, Object>> sanitizedUsers = users.stream()
-                .map(user -> {
-                    Map<String, Object> userMap = new HashMap<>();
-                    userMap.put("id", user.getId());
-                    userMap.put("username", user.getUsername());
-                    userMap.put("email", user.getEmail());
-                    userMap.put("role", user.getRole());
-                    userMap.put("enabled", user.getEnabled());
-                    return userMap;
-                })
-                .toList();
-        return ResponseEntity.ok(sanitizedUsers);
+    public ResponseEntity<List<UserSummary>> getAllUsers() {
+        return ResponseEntity.ok(userRepository.findAllSummaries());
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<?> getUsersPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean enabled) {
+        if (!SORTABLE_FIELDS.contains(sort) || !("asc".equalsIgnoreCase(direction) || "desc".equalsIgnoreCase(direction))) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "sort must be one of " + SORTABLE_FIELDS + " and direction asc or desc");
+            return ResponseEntity.badRequest().body(error);
+        }
+
+        int pageSize = Math.min(Math.max(size == null ? defaultPageSize : size, 1), maxPageSize);
+        Sort order = Sort.by(Sort.Direction.fromString(direction), sort);
+        // Stable order across pages when the sort key has duplicates (role, enabled)
+        if (!"id".equals(sort)) {
+            order = order.and(Sort.by("id"));
+        }
+        Page<UserSummary> users = userRepository.findSummaries(
+                role == null || role.isBlank() ? null : role, enabled, PageRequest.of(Math.max(page, 0), pageSize, order));
+        return ResponseEntity.ok(new PageResponse<>(users));
+    }
+
+    // Resolves many usernames with one IN query; unknown usernames are simply absent from the result
+    @PostMapping("/lookup")
+    public ResponseEntity<?> lookupUsers(@Valid @RequestBody UserLookupRequest request) {
+        LinkedHashSet<String> usernames = new LinkedHashSet<>(request.getUsernames());
+        usernames.remove(null);
+        if (usernames.size() > lookupMaxUsernames) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "At most " + lookupMaxUsernames + " usernames per request");
+            return ResponseEntity.badRequest().body(error);
+        }
+        if (usernames.isEmpty()) {
+            return ResponseEntity.ok(List.of());
+        }
+
+        return ResponseEntity.ok(userRepository.findSummariesByUsernameIn(usernames));
     }
 
     @GetMapping("/{id}")
@@ -68,7 +124,7 @@ public class UserController {
             return ResponseEntity.badRequest().body(response);
         }
 
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        user.setPassword(passwordHashingService.encodeAndWait(user.getPassword()));
         if (user.getEnabled() == null) {
             user.setEnabled(true);
         }
@@ -89,6 +145,10 @@ public class UserController {
     public ResponseEntity<Map<String, Object>> updateUser(@PathVariable Long id, @RequestBody Map<String, Object> updates) {
         return userRepository.findById(id)
                 .map(user -> {
+                    String previousUsername = user.getUsername();
+                    String previousRole = user.getRole();
+                    boolean passwordChanged = false;
+
                     if (updates.containsKey("username")) {
                         String newUsername = (String) updates.get("username");
                         if (!newUsername.equals(user.getUsername()) && userRepository.existsByUsername(newUsername)) {
@@ -111,7 +171,8 @@ public class UserController {
 
                     if (updates.containsKey("password")) {
                         String newPassword = (String) updates.get("password");
-                        user.setPassword(passwordEncoder.encode(newPassword));
+                        user.setPassword(passwordHashingService.encodeAndWait(newPassword));
+                        passwordChanged = true;
                     }
 
                     if (updates.containsKey("role")) {
@@ -124,6 +185,13 @@ public class UserController {
 
                     User updatedUser = userRepository.save(user);
 
+                    // Outstanding tokens carry the old identity or credentials: end those sessions now
+                    if (passwordChanged || !updatedUser.getEnabled()
+                            || !updatedUser.getUsername().equals(previousUsername)
+                            || !updatedUser.getRole().equals(previousRole)) {
+                        revocationService.revokeUser(previousUsername);
+                    }
+
                     Map<String, Object> response = new HashMap<>();
                     response.put("id", updatedUser.getId());
                     response.put("username", updatedUser.getUsername());
@@ -142,6 +210,7 @@ public class UserController {
         return userRepository.findById(id)
                 .map(user -> {
                     userRepository.delete(user);
+                    revocationService.revokeUser(user.getUsername());
                     Map<String, Object> response = new HashMap<>();
                     response.put("message", "User deleted successfully");
                     return ResponseEntity.ok(response);
@@ -155,6 +224,9 @@ public class UserController {
                 .map(user -> {
                     user.setEnabled(!user.getEnabled());
                     User updatedUser = userRepository.save(user);
+                    if (!updatedUser.getEnabled()) {
+                        revocationService.revokeUser(updatedUser.getUsername());
+                    }
 
                     Map<String, Object> response = new HashMap<>();
                     response.put("id", updatedUser.getId());
@@ -0,0 +1,87 @@
+package com.healthcare.auth.entities;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * A revoked access token (TOKEN, by jti) or every access token of a user issued up to
+ * {@code revokedAt} (USER, by username). Kept only until the revoked tokens would have expired anyway.
+ */
+@Entity
+@Table(name = "revocations", indexes = {
+        @Index(name = "idx_revocations_lookup", columnList = "type, revoked_value"),
+        @Index(name = "idx_revocations_expires_at", columnList = "expires_at")
+})
+public class Revocation {
+
+    public enum Type { USER, TOKEN }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Type type;
+
+    @Column(name = "revoked_value", nullable = false)
+    private String value;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // Constructors
+    public Revocation() {}
+
+    public Revocation(Type type, String value, Instant revokedAt, Instant expiresAt) {
+        this.type = type;
+        this.value = value;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(Instant revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
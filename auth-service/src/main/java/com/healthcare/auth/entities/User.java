@@ -6,7 +6,10 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_role_enabled", columnList = "role, enabled"),
+        @Index(name = "idx_users_enabled", columnList = "enabled")
+})
 public class User {
 
     @Id
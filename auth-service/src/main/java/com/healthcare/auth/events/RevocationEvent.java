@@ -0,0 +1,56 @@
+package com.healthcare.auth.events;
+
+import com.healthcare.auth.entities.Revocation;
+
+import java.time.Instant;
+
+public class RevocationEvent {
+
+    private String type;
+    private String value;
+    private Instant revokedAt;
+    private Instant expiresAt;
+
+    // Constructors
+    public RevocationEvent() {}
+
+    public RevocationEvent(Revocation revocation) {
+        this.type = revocation.getType().name();
+        this.value = revocation.getValue();
+        this.revokedAt = revocation.getRevokedAt();
+        this.expiresAt = revocation.getExpiresAt();
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+    public void setRevokedAt(Instant revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,7 @@
+package com.healthcare.auth.exceptions;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
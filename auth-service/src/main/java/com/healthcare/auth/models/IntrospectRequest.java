@@ -0,0 +1,27 @@
+package com.healthcare.auth.models;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public class IntrospectRequest {
+
+    @NotNull(message = "Tokens are required")
+    private List<String> tokens;
+
+    // Constructors
+    public IntrospectRequest() {}
+
+    public IntrospectRequest(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    // Getters and Setters
+    public List<String> getTokens() {
+        return tokens;
+    }
+
+    public void setTokens(List<String> tokens) {
+        this.tokens = tokens;
+    }
+}
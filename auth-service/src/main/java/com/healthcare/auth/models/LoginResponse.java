@@ -3,6 +3,8 @@ package com.healthcare.auth.models;
 public class LoginResponse {
 
     private String token;
+    private String refreshToken;
+    private Long expiresIn;
     private String username;
     private String role;
     private String message;
@@ -26,6 +28,23 @@ public class LoginResponse {
         this.token = token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    /** Access token lifetime in seconds. */
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(Long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+
     public String getUsername() {
         return username;
     }
@@ -0,0 +1,64 @@
+package com.healthcare.auth.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.healthcare.jwt.JwtClaims;
+
+import java.time.Instant;
+
+/**
+ * Result for one token of a batch introspection; only {@code active} is set for invalid or revoked tokens.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospection {
+
+    private static final TokenIntrospection INACTIVE = new TokenIntrospection(false, null);
+
+    private final boolean active;
+    private final String username;
+    private final String role;
+    private final String tokenId;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    private TokenIntrospection(boolean active, JwtClaims claims) {
+        this.active = active;
+        this.username = claims == null ? null : claims.getSubject();
+        this.role = claims == null ? null : claims.getRole();
+        this.tokenId = claims == null ? null : claims.getTokenId();
+        this.issuedAt = claims == null ? null : claims.getIssuedAt();
+        this.expiresAt = claims == null ? null : claims.getExpiresAt();
+    }
+
+    public static TokenIntrospection active(JwtClaims claims) {
+        return new TokenIntrospection(true, claims);
+    }
+
+    public static TokenIntrospection inactive() {
+        return INACTIVE;
+    }
+
+    // Getters
+    public boolean isActive() {
+        return active;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,27 @@
+package com.healthcare.auth.models;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public class UserLookupRequest {
+
+    @NotNull(message = "Usernames are required")
+    private List<String> usernames;
+
+    // Constructors
+    public UserLookupRequest() {}
+
+    public UserLookupRequest(List<String> usernames) {
+        this.usernames = usernames;
+    }
+
+    // Getters and Setters
+    public List<String> getUsernames() {
+        return usernames;
+    }
+
+    public void setUsernames(List<String> usernames) {
+        this.usernames = usernames;
+    }
+}
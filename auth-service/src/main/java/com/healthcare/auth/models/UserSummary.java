@@ -0,0 +1,7 @@
+package com.healthcare.auth.models;
+
+/**
+ * Read-only view of a user selected column by column, so the password hash is never loaded.
+ */
+public record UserSummary(Long id, String username, String email, String role, Boolean enabled) {
+}
@@ -0,0 +1,28 @@
+package com.healthcare.auth.repositories;
+
+import com.healthcare.auth.entities.Revocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RevocationRepository extends JpaRepository<Revocation, Long> {
+
+    List<Revocation> findByExpiresAtAfter(Instant now);
+
+    List<Revocation> findByTypeAndValueInAndExpiresAtAfter(Revocation.Type type, Collection<String> values, Instant now);
+
+    boolean existsByTypeAndValueAndExpiresAtAfter(Revocation.Type type, String value, Instant now);
+
+    boolean existsByTypeAndValueAndRevokedAtGreaterThan(Revocation.Type type, String value, Instant issuedAt);
+
+    @Modifying
+    @Query("delete from Revocation r where r.expiresAt < :cutoff")
+    int deleteExpired(@Param("cutoff") Instant cutoff);
+}
@@ -1,9 +1,16 @@
 package com.healthcare.auth.repositories;
 
 import com.healthcare.auth.entities.User;
+import com.healthcare.auth.models.UserSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +23,19 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByUsername(String username);
 
     Boolean existsByEmail(String email);
+
+    // Summary queries select columns explicitly: the password hash is never read
+    @Query("select new com.healthcare.auth.models.UserSummary(u.id, u.username, u.email, u.role, u.enabled) " +
+           "from User u order by u.id")
+    List<UserSummary> findAllSummaries();
+
+    @Query(value = "select new com.healthcare.auth.models.UserSummary(u.id, u.username, u.email, u.role, u.enabled) " +
+                   "from User u where (:role is null or u.role = :role) and (:enabled is null or u.enabled = :enabled)",
+           countQuery = "select count(u) from User u " +
+                        "where (:role is null or u.role = :role) and (:enabled is null or u.enabled = :enabled)")
+    Page<UserSummary> findSummaries(@Param("role") String role, @Param("enabled") Boolean enabled, Pageable pageable);
+
+    @Query("select new com.healthcare.auth.models.UserSummary(u.id, u.username, u.email, u.role, u.enabled) " +
+           "from User u where u.username in :usernames")
+    List<UserSummary> findSummariesByUsernameIn(@Param("usernames") Collection<String> usernames);
 }
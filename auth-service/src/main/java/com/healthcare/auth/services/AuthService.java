@@ -4,12 +4,20 @@ import com.healthcare.auth.entities.User;
 import com.healthcare.auth.models.LoginRequest;
 import com.healthcare.auth.models.LoginResponse;
 import com.healthcare.auth.models.RegisterRequest;
+import com.healthcare.auth.models.TokenIntrospection;
 import com.healthcare.auth.repositories.UserRepository;
 import com.healthcare.auth.utils.JwtUtil;
+import com.healthcare.jwt.JwtClaims;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
 @Service
 public class AuthService {
 
@@ -17,11 +25,22 @@ public class AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RevocationService revocationService;
+
+    // Runs the refresh-token insert and signing after login, so the BCrypt pool only hashes
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor taskExecutor;
+
     public LoginResponse registerUser(RegisterRequest request) {
         // Check if username already exists
         if (userRepository.existsByUsername(request.getUsername())) {
@@ -36,54 +55,89 @@ public class AuthService {
         // Create new user with hashed password
         User user = new User();
         user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingService.encodeAndWait(request.getPassword()));
         user.setEmail(request.getEmail());
         user.setRole(request.getRole());
         user.setEnabled(true);
 
         userRepository.save(user);
 
-        // Generate JWT token
-        String token = jwtUtil.generateToken(user.getUsername(), user.getRole());
-
-        return new LoginResponse(token, user.getUsername(), user.getRole(), "User registered successfully");
+        // Generate access and refresh tokens
+        return refreshTokenService.issue(user, "User registered successfully");
     }
 
-    public LoginResponse loginUser(LoginRequest request) {
+    public CompletableFuture<LoginResponse> loginUser(LoginRequest request) {
         // Find user by username
         User user = userRepository.findByUsername(request.getUsername())
                 .orElse(null);
 
         if (user == null) {
-            return new LoginResponse(null, null, null, "Invalid username or password");
+            return CompletableFuture.completedFuture(
+                    new LoginResponse(null, null, null, "Invalid username or password"));
         }
 
-        // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            return new LoginResponse(null, null, null, "Invalid username or password");
-        }
+        // Verify password on the BCrypt pool, not on the request thread
+        return passwordHashingService.matches(request.getPassword(), user.getPassword())
+                .thenApplyAsync(matches -> {
+                    if (!matches) {
+                        return new LoginResponse(null, null, null, "Invalid username or password");
+                    }
+
+                    // Check if user is enabled
+                    if (!user.getEnabled()) {
+                        return new LoginResponse(null, null, null, "Account is disabled");
+                    }
+
+                    // Generate access and refresh tokens
+                    return refreshTokenService.issue(user, "Login successful");
+                }, taskExecutor);
+    }
 
-        // Check if user is enabled
-        if (!user.getEnabled()) {
-            return new LoginResponse(null, null, null, "Account is disabled");
+    /**
+     * Verifies the token and checks it against the revocation table; returns null if invalid or revoked.
+     */
+    public JwtClaims verifyToken(String token) {
+        JwtClaims claims = jwtUtil.parseToken(token);
+        if (claims == null || revocationService.isRevoked(claims)) {
+            return null;
         }
-
-        // Generate JWT token
-        String token = jwtUtil.generateToken(user.getUsername(), user.getRole());
-
-        return new LoginResponse(token, user.getUsername(), user.getRole(), "Login successful");
+        return claims;
     }
 
-    public Boolean validateToken(String token) {
-        return jwtUtil.validateToken(token);
+    /**
+     * Verifies a batch of tokens in parallel, then checks revocations for the whole batch at once.
+     * Results are in request order.
+     */
+    public List<TokenIntrospection> introspect(List<String> tokens) {
+        List<JwtClaims> verified = tokens.parallelStream()
+                .map(jwtUtil::parseToken)
+                .toList();
+        Predicate<JwtClaims> revoked = revocationService.revocationCheck(
+                verified.stream().filter(Objects::nonNull).toList());
+        return verified.stream()
+                .map(claims -> claims == null || revoked.test(claims)
+                        ? TokenIntrospection.inactive()
+                        : TokenIntrospection.active(claims))
+                .toList();
     }
 
-    public String getUsernameFromToken(String token) {
-        return jwtUtil.extractUsername(token);
+    public LoginResponse refresh(String refreshToken) {
+        return refreshTokenService.refresh(refreshToken);
     }
 
-    public String getRoleFromToken(String token) {
-        return jwtUtil.extractRole(token);
+    /**
+     * Ends the session: the refresh token can no longer be used and the access token is revoked at the gateway.
+     */
+    public void logout(String refreshToken, String accessToken) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        if (accessToken != null) {
+            JwtClaims claims = jwtUtil.parseToken(accessToken);
+            if (claims != null) {
+                revocationService.revokeToken(claims);
+            }
+        }
     }
 
     public User getUserByUsername(String username) {
@@ -0,0 +1,113 @@
+package com.healthcare.auth.services;
+
+import com.healthcare.auth.entities.RefreshToken;
+import com.healthcare.auth.entities.User;
+import com.healthcare.auth.models.LoginResponse;
+import com.healthcare.auth.repositories.RefreshTokenRepository;
+import com.healthcare.auth.repositories.UserRepository;
+import com.healthcare.auth.utils.JwtUtil;
+import com.healthcare.jwt.JwtTokenSigner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Issues access/refresh token pairs. Refresh tokens are 256-bit random values handed to the client once
+ * and stored as SHA-256 hashes; each one can be exchanged a single time for a new pair.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RevocationService revocationService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JwtTokenSigner tokenSigner;
+
+    @Value("${jwt.refresh-expiration:604800000}") // Default 7 days in milliseconds
+    private long refreshExpirationMs;
+
+    public LoginResponse issue(User user, String message) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        Instant now = Instant.now();
+        refreshTokenRepository.save(new RefreshToken(hash(refreshToken), user.getUsername(), now,
+                now.plus(Duration.ofMillis(refreshExpirationMs))));
+
+        LoginResponse response = new LoginResponse(jwtUtil.generateToken(user.getUsername(), user.getRole()),
+                user.getUsername(), user.getRole(), message);
+        response.setRefreshToken(refreshToken);
+        response.setExpiresIn(tokenSigner.getTtl().toSeconds());
+        return response;
+    }
+
+    /**
+     * Exchanges a refresh token for a new pair, or returns null if it is unknown, expired, already used
+     * or the account is no longer enabled. Reusing a spent token signals theft, so the whole session is revoked.
+     */
+    @Transactional
+    public LoginResponse refresh(String refreshToken) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(hash(refreshToken)).orElse(null);
+        Instant now = Instant.now();
+        if (stored == null || stored.getExpiresAt().isBefore(now)) {
+            return null;
+        }
+        // The token is spent atomically in the database, so concurrent refreshes with it cannot both succeed
+        if (stored.getRevokedAt() != null || refreshTokenRepository.claim(stored.getId(), now) == 0) {
+            log.warn("Refresh token reuse detected for user {}, revoking all tokens", stored.getUsername());
+            revocationService.revokeUser(stored.getUsername());
+            return null;
+        }
+
+        User user = userRepository.findByUsername(stored.getUsername()).orElse(null);
+        if (user == null || !user.getEnabled()) {
+            return null;
+        }
+        return issue(user, "Token refreshed");
+    }
+
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHash(hash(refreshToken)).ifPresent(stored -> {
+            if (stored.getRevokedAt() == null) {
+                stored.setRevokedAt(Instant.now());
+            }
+        });
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(refreshToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.healthcare.auth.services;
+
+import com.healthcare.auth.entities.Revocation;
+import com.healthcare.auth.events.RevocationEvent;
+import com.healthcare.auth.repositories.RefreshTokenRepository;
+import com.healthcare.auth.repositories.RevocationRepository;
+import com.healthcare.jwt.JwtClaims;
+import com.healthcare.jwt.JwtTokenSigner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Records revoked access tokens and broadcasts them on the revocations fanout exchange, so the gateway
+ * can reject them from memory. Entries only need to outlive the tokens they revoke: a user revocation
+ * lasts one access-token lifetime (plus clock skew), a token revocation lasts until the token's expiry.
+ * A user revocation applies to tokens issued strictly before its {@code revokedAt}, compared at the
+ * millisecond precision of the {@code iat_ms} claim, so a token issued just before a demotion in the
+ * same second is revoked while the re-login that follows stays valid.
+ */
+@Service
+public class RevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationService.class);
+
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    @Autowired
+    private RevocationRepository revocationRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JwtTokenSigner tokenSigner;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Value("${rabbitmq.exchange.revocations}")
+    private String revocationsExchange;
+
+    /**
+     * Invalidates every access and refresh token the user holds, e.g. when the account is disabled,
+     * deleted or its password or role changes.
+     */
+    @Transactional
+    public void revokeUser(String username) {
+        // Rounded up to the next millisecond: a token issued in the same millisecond is revoked too
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS).plusMillis(1);
+        int refreshTokens = refreshTokenRepository.revokeAllForUser(username, now);
+        publish(revocationRepository.save(new Revocation(Revocation.Type.USER, username, now,
+                now.plus(tokenSigner.getTtl()).plus(CLOCK_SKEW))));
+        log.info("Revoked tokens of user {} ({} refresh tokens)", username, refreshTokens);
+    }
+
+    public void revokeToken(JwtClaims claims) {
+        if (claims.getTokenId() == null || claims.getExpiresAt() == null) {
+            return;
+        }
+        publish(revocationRepository.save(new Revocation(Revocation.Type.TOKEN, claims.getTokenId(),
+                Instant.now(), claims.getExpiresAt().plus(CLOCK_SKEW))));
+    }
+
+    public boolean isRevoked(JwtClaims claims) {
+        if (claims.getTokenId() != null && revocationRepository.existsByTypeAndValueAndExpiresAtAfter(
+                Revocation.Type.TOKEN, claims.getTokenId(), Instant.now())) {
+            return true;
+        }
+        Instant issuedAt = claims.getIssuedAt() == null ? Instant.EPOCH : claims.getIssuedAt();
+        return revocationRepository.existsByTypeAndValueAndRevokedAtGreaterThan(
+                Revocation.Type.USER, claims.getSubject(), issuedAt);
+    }
+
+    /**
+     * Batch form of {@link #isRevoked}: loads the revocations of all the given tokens and users with two
+     * IN queries and returns a predicate that answers from memory.
+     */
+    public Predicate<JwtClaims> revocationCheck(Collection<JwtClaims> claims) {
+        Instant now = Instant.now();
+        Set<String> tokenIds = claims.stream().map(JwtClaims::getTokenId).filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<String> usernames = claims.stream().map(JwtClaims::getSubject).filter(Objects::nonNull).collect(Collectors.toSet());
+
+        Set<String> revokedTokens = tokenIds.isEmpty() ? Set.of() : revocationRepository
+                .findByTypeAndValueInAndExpiresAtAfter(Revocation.Type.TOKEN, tokenIds, now).stream()
+                .map(Revocation::getValue)
+                .collect(Collectors.toSet());
+        Map<String, Instant> userRevokedAt = usernames.isEmpty() ? Map.of() : revocationRepository
+                .findByTypeAndValueInAndExpiresAtAfter(Revocation.Type.USER, usernames, now).stream()
+                .collect(Collectors.toMap(Revocation::getValue, Revocation::getRevokedAt,
+                        (a, b) -> a.isAfter(b) ? a : b));
+
+        return token -> {
+            if (token.getTokenId() != null && revokedTokens.contains(token.getTokenId())) {
+                return true;
+            }
+            Instant revokedAt = userRevokedAt.get(token.getSubject());
+            Instant issuedAt = token.getIssuedAt() == null ? Instant.EPOCH : token.getIssuedAt();
+            return revokedAt != null && issuedAt.isBefore(revokedAt);
+        };
+    }
+
+    /**
+     * Active revocations, used by gateway instances to bootstrap before applying broadcast events.
+     */
+    public List<RevocationEvent> snapshot() {
+        return revocationRepository.findByExpiresAtAfter(Instant.now()).stream()
+                .map(RevocationEvent::new)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.purge-interval-ms:600000}")
+    @Transactional
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int revocations = revocationRepository.deleteExpired(now);
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        if (revocations + refreshTokens > 0) {
+            log.info("Purged {} expired revocations and {} expired refresh tokens", revocations, refreshTokens);
+        }
+    }
+
+    private void publish(Revocation revocation) {
+        try {
+            rabbitTemplate.convertAndSend(revocationsExchange, "", new RevocationEvent(revocation));
+        } catch (AmqpException e) {
+            // Stored anyway: gateways pick it up when they next re-pull the snapshot (gateway.revocation.resync-interval-ms)
+            log.error("Failed to broadcast {} revocation for {}: {}", revocation.getType(), revocation.getValue(), e.getMessage());
+        }
+    }
+}
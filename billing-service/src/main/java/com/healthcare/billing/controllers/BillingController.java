@@ -1,6 +1,7 @@
 package com.healthcare.billing.controllers;
 
 import com.healthcare.billing.dto.InvoiceDTO;
+import com.healthcare.billing.dto.InvoiceStatusSummary;
 import com.healthcare.billing.dto.PaymentDTO;
 import com.healthcare.billing.entities.Invoice;
 import com.healthcare.billing.services.BillingService;
@@ -37,6 +38,15 @@ public class BillingController {
         }
     }
 
+    @GetMapping("/invoices/rdv/{rdvId}")
+    public ResponseEntity<InvoiceDTO> getInvoiceByRdvId(@PathVariable Long rdvId) {
+        try {
+            return ResponseEntity.ok(billingService.getInvoiceByRdvId(rdvId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @GetMapping("/invoices/patient/{email}")
     public ResponseEntity<List<InvoiceDTO>> getInvoicesByPatientEmail(@PathVariable String email) {
         return ResponseEntity.ok(billingService.getInvoicesByPatientEmail(email));
@@ -47,6 +57,12 @@ public class BillingController {
         return ResponseEntity.ok(billingService.getInvoicesByStatus(status));
     }
 
+    @GetMapping("/invoices/status/{status}/summary")
+    public ResponseEntity<InvoiceStatusSummary> getInvoiceStatusSummary(@PathVariable String status,
+                                                                        @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(billingService.getInvoiceStatusSummary(status, Math.min(Math.max(limit, 1), 100)));
+    }
+
     @PostMapping("/invoices")
     public ResponseEntity<InvoiceDTO> createInvoice(@Valid @RequestBody Invoice invoice) {
         try {
@@ -72,6 +88,11 @@ public class BillingController {
         return ResponseEntity.ok(billingService.getPaymentsByInvoiceId(invoiceId));
     }
 
+    @GetMapping("/payments/rdv/{rdvId}")
+    public ResponseEntity<List<PaymentDTO>> getPaymentsByRdvId(@PathVariable Long rdvId) {
+        return ResponseEntity.ok(billingService.getPaymentsByRdvId(rdvId));
+    }
+
     @PostMapping("/payments")
     public ResponseEntity<PaymentDTO> recordPayment(@Valid @RequestBody PaymentDTO paymentDTO) {
         try {
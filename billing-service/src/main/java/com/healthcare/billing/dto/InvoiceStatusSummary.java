@@ -0,0 +1,46 @@
+package com.healthcare.billing.dto;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class InvoiceStatusSummary {
+    private String status;
+    private long count;
+    private BigDecimal total = BigDecimal.ZERO;
+    // Earliest due first, limited by the request
+    private List<InvoiceDTO> oldest = new ArrayList<>();
+
+    // Getters and Setters
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public List<InvoiceDTO> getOldest() {
+        return oldest;
+    }
+
+    public void setOldest(List<InvoiceDTO> oldest) {
+        this.oldest = oldest;
+    }
+}
@@ -7,7 +7,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "invoice")
+@Table(name = "invoice", indexes = @Index(name = "idx_invoice_status_due_date", columnList = "status, due_date"))
 public class Invoice {
 
     @Id
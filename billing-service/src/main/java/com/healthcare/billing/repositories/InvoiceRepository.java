@@ -1,9 +1,13 @@
 package com.healthcare.billing.repositories;
 
 import com.healthcare.billing.entities.Invoice;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +16,12 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
     List<Invoice> findByPatientEmail(String patientEmail);
     List<Invoice> findByStatus(String status);
     Optional<Invoice> findByRdvId(Long rdvId);
+
+    long countByStatus(String status);
+
+    @Query("select coalesce(sum(i.total), 0) from Invoice i where i.status = :status")
+    BigDecimal sumTotalByStatus(@Param("status") String status);
+
+    // Earliest due first; invoices without a due date sort last (PostgreSQL puts nulls last in ascending order)
+    List<Invoice> findByStatusOrderByDueDateAscIdAsc(String status, Pageable pageable);
 }
@@ -2,6 +2,8 @@ package com.healthcare.billing.repositories;
 
 import com.healthcare.billing.entities.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +11,7 @@ import java.util.List;
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     List<Payment> findByInvoiceId(Long invoiceId);
+
+    @Query("select p from Payment p where p.invoiceId in (select i.id from Invoice i where i.rdvId = :rdvId)")
+    List<Payment> findByRdvId(@Param("rdvId") Long rdvId);
 }
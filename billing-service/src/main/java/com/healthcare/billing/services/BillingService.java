@@ -1,6 +1,7 @@
 package com.healthcare.billing.services;
 
 import com.healthcare.billing.dto.InvoiceDTO;
+import com.healthcare.billing.dto.InvoiceStatusSummary;
 import com.healthcare.billing.dto.PaymentDTO;
 import com.healthcare.billing.entities.Invoice;
 import com.healthcare.billing.entities.Payment;
@@ -11,6 +12,7 @@ import com.healthcare.billing.repositories.PaymentRepository;
 import com.healthcare.billing.repositories.PricingRepository;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -51,6 +53,12 @@ public class BillingService {
         return convertToDTO(invoice);
     }
 
+    public InvoiceDTO getInvoiceByRdvId(Long rdvId) {
+        Invoice invoice = invoiceRepository.findByRdvId(rdvId)
+                .orElseThrow(() -> new RuntimeException("Invoice not found for rdv id: " + rdvId));
+        return convertToDTO(invoice);
+    }
+
     public List<InvoiceDTO> getInvoicesByPatientEmail(String email) {
         return invoiceRepository.findByPatientEmail(email).stream()
                 .map(this::convertToDTO)
@@ -63,6 +71,18 @@ public class BillingService {
                 .collect(Collectors.toList());
     }
 
+    // Count, total and earliest-due invoices of a status, computed in the database instead of loading every row
+    public InvoiceStatusSummary getInvoiceStatusSummary(String status, int limit) {
+        InvoiceStatusSummary summary = new InvoiceStatusSummary();
+        summary.setStatus(status);
+        summary.setCount(invoiceRepository.countByStatus(status));
+        summary.setTotal(invoiceRepository.sumTotalByStatus(status));
+        summary.setOldest(invoiceRepository.findByStatusOrderByDueDateAscIdAsc(status, PageRequest.of(0, limit)).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList()));
+        return summary;
+    }
+
     @Transactional
     public InvoiceDTO createInvoice(Invoice invoice) {
         // Resolve amount: prefer specialty pricing when available, otherwise keep provided amount, fallback to 0
@@ -121,6 +141,12 @@ public class BillingService {
                 .collect(Collectors.toList());
     }
 
+    public List<PaymentDTO> getPaymentsByRdvId(Long rdvId) {
+        return paymentRepository.findByRdvId(rdvId).stream()
+                .map(this::convertToPaymentDTO)
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public PaymentDTO recordPayment(PaymentDTO paymentDTO) {
         Invoice invoice = invoiceRepository.findById(paymentDTO.getInvoiceId())
@@ -1,61 +1,41 @@
 package com.healthcare.billing.utils;
 
-import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Value;
+import com.healthcare.jwt.JwtClaims;
+import com.healthcare.jwt.JwtTokenVerifier;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.util.Date;
+import java.time.Instant;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    @Autowired
+    private JwtTokenVerifier tokenVerifier;
 
-    @Value("${jwt.expiration:86400000}")
-    private Long expiration;
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Verifies the token once; returns its claims, or null if it is invalid or expired.
+     */
+    public JwtClaims parseToken(String token) {
+        return tokenVerifier.verify(token);
     }
 
     public Boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseToken(token) != null;
     }
 
     public String extractUsername(String token) {
-        return extractClaims(token).getSubject();
+        JwtClaims claims = parseToken(token);
+        return claims == null ? null : claims.getSubject();
     }
 
     public String extractRole(String token) {
-        return extractClaims(token).get("role", String.class);
-    }
-
-    private Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        JwtClaims claims = parseToken(token);
+        return claims == null ? null : claims.getRole();
     }
 
     public Boolean isTokenExpired(String token) {
-        try {
-            return extractClaims(token).getExpiration().before(new Date());
-        } catch (JwtException e) {
-            return true;
-        }
+        JwtClaims claims = parseToken(token);
+        return claims == null || claims.isExpired(Instant.now());
     }
 }
@@ -31,7 +31,7 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/docteurs/welcome").permitAll()
-                        .requestMatchers("/api/docteurs", "/api/docteurs/{id}").permitAll()
+                        .requestMatchers("/api/docteurs", "/api/docteurs/batch", "/api/docteurs/count", "/api/docteurs/{id}").permitAll()
                         .requestMatchers("/actuator/**").permitAll()
                         .anyRequest().authenticated()
                 )
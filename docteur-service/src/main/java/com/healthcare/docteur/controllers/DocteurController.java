@@ -2,12 +2,16 @@ package com.healthcare.docteur.controllers;
 
 import com.healthcare.docteur.entities.Docteur;
 import com.healthcare.docteur.repositories.DocteurRepository;
+import com.healthcare.docteur.services.DocteurEventPublisher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/docteurs")
@@ -16,11 +20,32 @@ public class DocteurController {
     @Autowired
     private DocteurRepository docteurRepository;
 
+    @Autowired
+    private DocteurEventPublisher eventPublisher;
+
+    @Value("${docteur.batch.max-ids:1000}")
+    private int maxBatchIds;
+
     @GetMapping
     public List<Docteur> getAllDocteurs() {
         return docteurRepository.findAll();
     }
 
+    // Count only, for dashboards that do not need the list
+    @GetMapping("/count")
+    public Map<String, Long> countDocteurs() {
+        return Map.of("count", docteurRepository.count());
+    }
+
+    // Resolves many doctors in one round-trip; unknown ids are simply absent from the result
+    @GetMapping("/batch")
+    public ResponseEntity<List<Docteur>> getDocteursByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > maxBatchIds) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(docteurRepository.findAllById(new LinkedHashSet<>(ids)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Docteur> getDocteurById(@PathVariable Long id) {
         return docteurRepository.findById(id)
@@ -47,7 +72,9 @@ public class DocteurController {
                     docteur.setSpecialite(docteurDetails.getSpecialite());
                     docteur.setEmail(docteurDetails.getEmail());
                     docteur.setTelephone(docteurDetails.getTelephone());
-                    return ResponseEntity.ok(docteurRepository.save(docteur));
+                    Docteur updatedDocteur = docteurRepository.save(docteur);
+                    eventPublisher.publishDocteurUpdated(id);
+                    return ResponseEntity.ok(updatedDocteur);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -57,6 +84,7 @@ public class DocteurController {
         return docteurRepository.findById(id)
                 .map(docteur -> {
                     docteurRepository.delete(docteur);
+                    eventPublisher.publishDocteurDeleted(id);
                     return ResponseEntity.ok().<Void>build();
                 })
                 .orElse(ResponseEntity.notFound().build());
@@ -20,6 +20,7 @@ public class WelcomeController {
         response.put("port", 8081);
         response.put("endpoints", Map.of(
             "docteurs", "/api/docteurs",
+            "docteurs-batch", "/api/docteurs/batch?ids=",
             "h2-console", "/h2-console"
         ));
         response.put("description", "Service de gestion des docteurs");
@@ -0,0 +1,47 @@
+package com.healthcare.docteur.events;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+public class DocteurEvent implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String eventType; // UPDATED, DELETED
+    private Long docteurId;
+    private LocalDateTime eventTimestamp;
+
+    public DocteurEvent() {
+        this.eventTimestamp = LocalDateTime.now();
+    }
+
+    public DocteurEvent(String eventType, Long docteurId) {
+        this();
+        this.eventType = eventType;
+        this.docteurId = docteurId;
+    }
+
+    // Getters and Setters
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public Long getDocteurId() {
+        return docteurId;
+    }
+
+    public void setDocteurId(Long docteurId) {
+        this.docteurId = docteurId;
+    }
+
+    public LocalDateTime getEventTimestamp() {
+        return eventTimestamp;
+    }
+
+    public void setEventTimestamp(LocalDateTime eventTimestamp) {
+        this.eventTimestamp = eventTimestamp;
+    }
+}
@@ -0,0 +1,47 @@
+package com.healthcare.docteur.services;
+
+import com.healthcare.docteur.events.DocteurEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DocteurEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(DocteurEventPublisher.class);
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Value("${rabbitmq.exchange.docteurs}")
+    private String exchangeName;
+
+    @Value("${rabbitmq.routing.key.updated}")
+    private String routingKeyUpdated;
+
+    @Value("${rabbitmq.routing.key.deleted}")
+    private String routingKeyDeleted;
+
+    public void publishDocteurUpdated(Long docteurId) {
+        publish(new DocteurEvent("UPDATED", docteurId), routingKeyUpdated);
+    }
+
+    public void publishDocteurDeleted(Long docteurId) {
+        publish(new DocteurEvent("DELETED", docteurId), routingKeyDeleted);
+    }
+
+    // The change is already committed; a lost event only delays invalidation until the consumers' cache TTL
+    private void publish(DocteurEvent event, String routingKey) {
+        try {
+            rabbitTemplate.convertAndSend(exchangeName, routingKey, event);
+            log.info("{} event published for doctor ID: {}", event.getEventType(), event.getDocteurId());
+        } catch (AmqpException e) {
+            log.error("Failed to publish {} event for doctor ID {}: {}",
+                    event.getEventType(), event.getDocteurId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.healthcare.docteur.services;
+
+import com.healthcare.docteur.entities.Docteur;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.core.annotation.HandleAfterDelete;
+import org.springframework.data.rest.core.annotation.HandleAfterSave;
+import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.stereotype.Component;
+
+// Doctors can also be changed through the Spring Data REST endpoints, which bypass DocteurController
+@Component
+@RepositoryEventHandler
+public class DocteurRepositoryEventHandler {
+
+    @Autowired
+    private DocteurEventPublisher eventPublisher;
+
+    @HandleAfterSave
+    public void handleAfterSave(Docteur docteur) {
+        eventPublisher.publishDocteurUpdated(docteur.getId());
+    }
+
+    @HandleAfterDelete
+    public void handleAfterDelete(Docteur docteur) {
+        eventPublisher.publishDocteurDeleted(docteur.getId());
+    }
+}
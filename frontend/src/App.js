@@ -8,7 +8,7 @@ import DocteurManagement from './components/DocteurManagement';
 import UserManagement from './components/UserManagement';
 import InvoiceManagement from './components/InvoiceManagement';
 import { authService } from './services/auth';
-import { TOKEN_KEY, UNAUTHORIZED_EVENT } from './services/apiClient';
+import { TOKEN_KEY, UNAUTHORIZED_EVENT, storeTokens, clearTokens } from './services/apiClient';
 
 function App() {
   const [activeTab, setActiveTab] = useState('docteurs');
@@ -41,7 +41,7 @@ function App() {
         console.error('Erreur lors du chargement de l’utilisateur', err);
         setUser(null);
         setToken('');
-        localStorage.removeItem(TOKEN_KEY);
+        clearTokens();
         setAuthStatus({
           loading: false,
           error: 'Session expirée ou non authentifiée. Veuillez vous reconnecter.'
@@ -54,20 +54,30 @@ function App() {
     }
   }, [token]);
 
-  const handleAuthenticated = (newToken) => {
-    localStorage.setItem(TOKEN_KEY, newToken);
-    setToken(newToken);
+  const handleAuthenticated = (tokens) => {
+    storeTokens(tokens);
+    setToken(tokens.token);
     setAuthStatus({ loading: false, error: '' });
   };
 
   const handleLogout = () => {
-    localStorage.removeItem(TOKEN_KEY);
+    clearTokens();
     setToken('');
     setUser(null);
     setActiveTab('docteurs');
     setAuthStatus({ loading: false, error: '' });
   };
 
+  // Revokes the refresh token and the current access token before clearing the session locally
+  const handleSignOut = async () => {
+    try {
+      await authService.logout();
+    } catch (err) {
+      console.error('Erreur lors de la déconnexion', err);
+    }
+    handleLogout();
+  };
+
   return (
     <div className="App">
       <header className="App-header">
@@ -80,7 +90,7 @@ function App() {
           loading={authStatus.loading}
           error={authStatus.error}
           onAuthenticated={handleAuthenticated}
-          onLogout={handleLogout}
+          onLogout={handleSignOut}
         />
 
         <nav className="App-nav">
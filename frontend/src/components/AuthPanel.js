@@ -24,7 +24,7 @@ function AuthPanel({ user, loading, error, onAuthenticated, onLogout }) {
       const { data } = await authService.login(payload);
 
       if (data.token) {
-        onAuthenticated(data.token);
+        onAuthenticated(data);
       }
 
       setStatus({
@@ -1,8 +1,12 @@
 import React, { useState, useEffect } from 'react';
 import { userService } from '../services/api';
 
+const PAGE_SIZE = 20;
+
 function UserManagement() {
   const [users, setUsers] = useState([]);
+  const [page, setPage] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [editingId, setEditingId] = useState(null);
@@ -16,14 +20,15 @@ function UserManagement() {
   });
 
   useEffect(() => {
-    loadUsers();
-  }, []);
+    loadUsers(page);
+  }, [page]);
 
-  const loadUsers = async () => {
+  const loadUsers = async (pageToLoad = page) => {
     try {
       setLoading(true);
-      const response = await userService.getAllUsers();
-      setUsers(response.data);
+      const response = await userService.getUsersPage({ page: pageToLoad, size: PAGE_SIZE, sort: 'id' });
+      setUsers(response.data.content);
+      setTotalPages(response.data.totalPages);
       setError('');
     } catch (err) {
       setError('Erreur lors du chargement des utilisateurs');
@@ -240,6 +245,18 @@ function UserManagement() {
           </tbody>
         </table>
       </div>
+
+      {totalPages > 1 && (
+        <div className="form-actions">
+          <button className="btn-secondary btn-sm" disabled={page === 0} onClick={() => setPage(page - 1)}>
+            Précédent
+          </button>
+          <span>Page {page + 1} / {totalPages}</span>
+          <button className="btn-secondary btn-sm" disabled={page + 1 >= totalPages} onClick={() => setPage(page + 1)}>
+            Suivant
+          </button>
+        </div>
+      )}
     </div>
   );
 }
@@ -23,6 +23,7 @@ export const notificationService = {
 
 export const userService = {
   getAllUsers: () => apiClient.get('/users'),
+  getUsersPage: (params) => apiClient.get('/users/page', { params }),
   getUserById: (id) => apiClient.get(`/users/${id}`),
   createUser: (user) => apiClient.post('/users', user),
   updateUser: (id, updates) => apiClient.put(`/users/${id}`, updates),
@@ -41,3 +42,7 @@ export const billingService = {
   recordPayment: (payment) => apiClient.post('/billing/payments', payment),
   getOutstandingBalance: (email) => apiClient.get(`/billing/outstanding/${email}`)
 };
+
+export const dashboardService = {
+  getDashboard: () => apiClient.get('/dashboard')
+};
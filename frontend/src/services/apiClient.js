@@ -2,12 +2,45 @@ import axios from 'axios';
 
 const API_BASE_URL = process.env.REACT_APP_API_BASE_URL || 'http://localhost:8080/api';
 const TOKEN_KEY = 'authToken';
+const REFRESH_TOKEN_KEY = 'refreshToken';
 const UNAUTHORIZED_EVENT = 'auth:unauthorized';
+const NO_REFRESH_URLS = ['/auth/login', '/auth/refresh', '/auth/logout'];
 
 const apiClient = axios.create({
   baseURL: API_BASE_URL
 });
 
+const storeTokens = ({ token, refreshToken }) => {
+  localStorage.setItem(TOKEN_KEY, token);
+  if (refreshToken) {
+    localStorage.setItem(REFRESH_TOKEN_KEY, refreshToken);
+  }
+};
+
+const clearTokens = () => {
+  localStorage.removeItem(TOKEN_KEY);
+  localStorage.removeItem(REFRESH_TOKEN_KEY);
+};
+
+// Access tokens last 15 minutes: concurrent 401s share a single refresh call
+let refreshPromise = null;
+
+const refreshAccessToken = () => {
+  if (!refreshPromise) {
+    const refreshToken = localStorage.getItem(REFRESH_TOKEN_KEY);
+    refreshPromise = (refreshToken
+      ? axios.post(`${API_BASE_URL}/auth/refresh`, { refreshToken }).then(({ data }) => {
+          storeTokens(data);
+          return data.token;
+        })
+      : Promise.reject(new Error('No refresh token'))
+    ).finally(() => {
+      refreshPromise = null;
+    });
+  }
+  return refreshPromise;
+};
+
 apiClient.interceptors.request.use((config) => {
   const token = localStorage.getItem(TOKEN_KEY);
   if (token) {
@@ -18,14 +51,25 @@ apiClient.interceptors.request.use((config) => {
 
 apiClient.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
+    const original = error.config;
+    if (error.response?.status === 401 && original && !original._retried && !NO_REFRESH_URLS.includes(original.url)) {
+      original._retried = true;
+      try {
+        const token = await refreshAccessToken();
+        original.headers.Authorization = `Bearer ${token}`;
+        return apiClient(original);
+      } catch (refreshError) {
+        // Fall through: the session is over
+      }
+    }
     if (error.response?.status === 401) {
-      localStorage.removeItem(TOKEN_KEY);
+      clearTokens();
       window.dispatchEvent(new Event(UNAUTHORIZED_EVENT));
     }
     return Promise.reject(error);
   }
 );
 
-export { TOKEN_KEY, UNAUTHORIZED_EVENT };
+export { TOKEN_KEY, REFRESH_TOKEN_KEY, UNAUTHORIZED_EVENT, storeTokens, clearTokens };
 export default apiClient;
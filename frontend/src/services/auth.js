@@ -1,7 +1,8 @@
-import apiClient from './apiClient';
+import apiClient, { REFRESH_TOKEN_KEY } from './apiClient';
 
 export const authService = {
   login: (credentials) => apiClient.post('/auth/login', credentials),
   // register: (payload) => apiClient.post('/auth/register', payload), // Disabled - users created via DataInitializer
-  getCurrentUser: () => apiClient.get('/auth/me')
+  getCurrentUser: () => apiClient.get('/auth/me'),
+  logout: () => apiClient.post('/auth/logout', { refreshToken: localStorage.getItem(REFRESH_TOKEN_KEY) })
 };
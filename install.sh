@@ -38,7 +38,7 @@ if command -v java &> /dev/null; then
     JAVA_VERSION=$(java -version 2>&1 | head -n 1)
     print_status "Java installed: $JAVA_VERSION"
 else
-    print_error "Java is not installed. Please install JDK 17+"
+    print_error "Java is not installed. Please install JDK 21+"
     echo "  Arch Linux: sudo pacman -S jdk-openjdk"
     exit 1
 fi
@@ -149,6 +149,18 @@ echo "Building backend services..."
 echo "========================================"
 echo ""
 
+# Install the shared JWT module first (api-gateway, auth-service and billing-service depend on it)
+echo "Building JWT Common module..."
+cd jwt-common
+mvn clean install -q
+if [ $? -eq 0 ]; then
+    print_status "JWT Common module installed successfully"
+else
+    print_error "Failed to build JWT Common module"
+    exit 1
+fi
+cd ..
+
 # Build Docteur Service
 echo "Building Docteur Service..."
 cd docteur-service
@@ -0,0 +1,80 @@
+package com.healthcare.jwt.benchmark;
+
+import com.healthcare.jwt.JwtClaims;
+import com.healthcare.jwt.JwtKeyRing;
+import com.healthcare.jwt.JwtTokenSigner;
+import com.healthcare.jwt.JwtTokenVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the shared verifier and signer with a two-key ring. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec} from jwt-common.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtTokenVerifierBenchmark {
+
+    private static final String PREVIOUS_SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final String ACTIVE_SECRET = "5A7134743777217A25432A462D4A614E645267556B58703273357638792F423F";
+
+    private JwtTokenSigner signer;
+    private JwtTokenVerifier verifier;
+    private String activeKeyToken;
+    private String previousKeyToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing previous = new JwtKeyRing(Map.of(JwtKeyRing.DEFAULT_KID, PREVIOUS_SECRET), JwtKeyRing.DEFAULT_KID);
+        previousKeyToken = new JwtTokenSigner(previous, Duration.ofHours(1)).sign("receptionist", "RECEPTIONIST");
+
+        JwtKeyRing keyRing = new JwtKeyRing(
+                Map.of(JwtKeyRing.DEFAULT_KID, PREVIOUS_SECRET, "2026-10", ACTIVE_SECRET), "2026-10");
+        signer = new JwtTokenSigner(keyRing, Duration.ofHours(1));
+        verifier = new JwtTokenVerifier(keyRing);
+        activeKeyToken = signer.sign("admin", "ADMIN");
+
+        char last = activeKeyToken.charAt(activeKeyToken.length() - 2);
+        tamperedToken = activeKeyToken.substring(0, activeKeyToken.length() - 2)
+                + (last == 'A' ? 'B' : 'A') + activeKeyToken.charAt(activeKeyToken.length() - 1);
+    }
+
+    @Benchmark
+    public JwtClaims verifyActiveKey() {
+        return verifier.verify(activeKeyToken);
+    }
+
+    @Benchmark
+    public JwtClaims verifyPreviousKey() {
+        return verifier.verify(previousKeyToken);
+    }
+
+    @Benchmark
+    public JwtClaims verifyTampered() {
+        return verifier.verify(tamperedToken);
+    }
+
+    @Benchmark
+    public String sign() {
+        return signer.sign("admin", "ADMIN");
+    }
+}
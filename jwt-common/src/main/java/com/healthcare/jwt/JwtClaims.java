@@ -0,0 +1,79 @@
+package com.healthcare.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Immutable view of a verified token, extracted once so callers never parse the same token twice.
+ */
+public final class JwtClaims {
+
+    public static final String ROLE_CLAIM = "role";
+    /** Issue time in epoch milliseconds; {@code iat} only has one-second precision. */
+    public static final String ISSUED_AT_MS_CLAIM = "iat_ms";
+
+    private final String tokenId;
+    private final String subject;
+    private final String role;
+    private final String keyId;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public JwtClaims(String tokenId, String subject, String role, String keyId, Instant issuedAt, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.subject = subject;
+        this.role = role;
+        this.keyId = keyId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    static JwtClaims of(Claims claims, String keyId) {
+        return new JwtClaims(claims.getId(), claims.getSubject(), claims.get(ROLE_CLAIM, String.class), keyId,
+                issuedAt(claims), toInstant(claims.getExpiration()));
+    }
+
+    // Tokens issued before iat_ms was added fall back to iat, rounded down, so a revocation in the same second still applies
+    private static Instant issuedAt(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MS_CLAIM, Long.class);
+        return issuedAtMillis != null ? Instant.ofEpochMilli(issuedAtMillis) : toInstant(claims.getIssuedAt());
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+
+    // Getters
+    /** The {@code jti} claim, used to revoke a single token; null for tokens issued before it was added. */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    /** Millisecond precision when the token carries {@code iat_ms}. */
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    /** Null when the token carries no expiry. */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,100 @@
+package com.healthcare.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * HMAC keys indexed by key id ({@code kid}). Tokens are signed with the active key and verified
+ * with whichever key their header names, so a new key can be introduced and made active while
+ * tokens signed with the previous one stay valid until that key is removed. Keys are decoded once;
+ * {@link #rotate} swaps the whole set atomically without rebuilding parsers.
+ */
+public final class JwtKeyRing {
+
+    /** Key id of {@code jwt.secret}; tokens issued before key ids existed are verified with it. */
+    public static final String DEFAULT_KID = "default";
+
+    private final List<Runnable> rotationListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Snapshot snapshot;
+
+    public JwtKeyRing(Map<String, String> base64Secrets, String activeKid) {
+        this.snapshot = Snapshot.of(base64Secrets, activeKid);
+    }
+
+    /**
+     * Replaces every key. Throws {@link IllegalArgumentException} (and keeps the current keys) if the
+     * active key id is missing from the new set or a secret is shorter than 256 bits.
+     */
+    public void rotate(Map<String, String> base64Secrets, String activeKid) {
+        snapshot = Snapshot.of(base64Secrets, activeKid);
+        for (Runnable listener : rotationListeners) {
+            listener.run();
+        }
+    }
+
+    /** Runs after each successful {@link #rotate}, e.g. to drop results cached under a retired key. */
+    public void addRotationListener(Runnable listener) {
+        rotationListeners.add(listener);
+    }
+
+    /** Verification key for a token header's key id, or null if the id is unknown. */
+    public SecretKey key(String kid) {
+        return snapshot.keys().get(kid == null ? DEFAULT_KID : kid);
+    }
+
+    public SigningKey signingKey() {
+        return snapshot.active();
+    }
+
+    public String activeKid() {
+        return snapshot.active().kid();
+    }
+
+    public int size() {
+        return snapshot.keys().size();
+    }
+
+    LocatorAdapter<Key> locator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                return key(header.getKeyId());
+            }
+        };
+    }
+
+    public record SigningKey(String kid, SecretKey key) {
+    }
+
+    private record Snapshot(Map<String, SecretKey> keys, SigningKey active) {
+
+        static Snapshot of(Map<String, String> base64Secrets, String activeKid) {
+            Map<String, SecretKey> keys = new HashMap<>();
+            for (Map.Entry<String, String> entry : base64Secrets.entrySet()) {
+                if (entry.getValue() == null || entry.getValue().isBlank()) {
+                    continue;
+                }
+                try {
+                    keys.put(entry.getKey(), Keys.hmacShaKeyFor(Decoders.BASE64.decode(entry.getValue().trim())));
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Invalid JWT key '" + entry.getKey() + "': " + e.getMessage(), e);
+                }
+            }
+            SecretKey active = keys.get(activeKid);
+            if (active == null) {
+                throw new IllegalArgumentException("Active JWT key '" + activeKid + "' is not configured");
+            }
+            return new Snapshot(Map.copyOf(keys), new SigningKey(activeKid, active));
+        }
+    }
+}
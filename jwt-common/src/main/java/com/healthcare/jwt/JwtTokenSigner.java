@@ -0,0 +1,50 @@
+package com.healthcare.jwt;
+
+import io.jsonwebtoken.Jwts;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Issues tokens signed with the key ring's active key; its id goes into the {@code kid} header.
+ * Every token gets a random {@code jti} so it can be revoked on its own, and its issue time in
+ * milliseconds so revocations made within the same second as {@code iat} are ordered correctly.
+ */
+public final class JwtTokenSigner {
+
+    private final JwtKeyRing keyRing;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public JwtTokenSigner(JwtKeyRing keyRing, Duration ttl) {
+        this(keyRing, ttl, Clock.systemUTC());
+    }
+
+    public JwtTokenSigner(JwtKeyRing keyRing, Duration ttl, Clock clock) {
+        this.keyRing = keyRing;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public String sign(String subject, String role) {
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+        Instant now = clock.instant();
+        return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
+                .id(UUID.randomUUID().toString())
+                .subject(subject)
+                .claim(JwtClaims.ROLE_CLAIM, role)
+                .claim(JwtClaims.ISSUED_AT_MS_CLAIM, now.toEpochMilli())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(ttl)))
+                .signWith(signingKey.key())
+                .compact();
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+}
@@ -0,0 +1,38 @@
+package com.healthcare.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * Thread-safe verifier built once per key ring. The parser resolves the verification key from the
+ * token's {@code kid} header on every call, so rotating the ring needs no new verifier.
+ */
+public final class JwtTokenVerifier {
+
+    private final JwtParser parser;
+
+    public JwtTokenVerifier(JwtKeyRing keyRing) {
+        this.parser = Jwts.parser()
+                .keyLocator(keyRing.locator())
+                .build();
+    }
+
+    /**
+     * Checks the signature and expiry and returns the token's claims, or null if the token is
+     * malformed, expired, unsigned or signed with an unknown key.
+     */
+    public JwtClaims verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            Jws<Claims> jws = parser.parseSignedClaims(token);
+            return JwtClaims.of(jws.getPayload(), jws.getHeader().getKeyId());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
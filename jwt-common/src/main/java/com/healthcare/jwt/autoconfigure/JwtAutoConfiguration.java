@@ -0,0 +1,95 @@
+package com.healthcare.jwt.autoconfigure;
+
+import com.healthcare.jwt.JwtKeyRing;
+import com.healthcare.jwt.JwtTokenVerifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Key ring and verifier for every service that depends on jwt-common. Keys come from {@code jwt.secret}
+ * (key id "default") plus {@code jwt.keys.<kid>}, with {@code jwt.active-kid} selecting the signing key.
+ * When Spring Cloud Context is present they are reloaded on environment changes (POST /actuator/refresh),
+ * so a key can be added, activated and later retired without a restart.
+ */
+@AutoConfiguration
+public class JwtAutoConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAutoConfiguration.class);
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JwtKeyRing jwtKeyRing(Environment environment) {
+        JwtKeyRing keyRing = new JwtKeyRing(configuredSecrets(environment), activeKid(environment));
+        log.info("JWT key ring loaded with {} keys, active '{}'", keyRing.size(), keyRing.activeKid());
+        return keyRing;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JwtTokenVerifier jwtTokenVerifier(JwtKeyRing keyRing) {
+        return new JwtTokenVerifier(keyRing);
+    }
+
+    static Map<String, String> configuredSecrets(Environment environment) {
+        Map<String, String> secrets = new HashMap<>();
+        String secret = environment.getProperty("jwt.secret");
+        if (secret != null) {
+            secrets.put(JwtKeyRing.DEFAULT_KID, secret);
+        }
+        secrets.putAll(Binder.get(environment)
+                .bind("jwt.keys", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of()));
+        return secrets;
+    }
+
+    static String activeKid(Environment environment) {
+        return environment.getProperty("jwt.active-kid", JwtKeyRing.DEFAULT_KID);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(EnvironmentChangeEvent.class)
+    static class KeyReloadConfiguration {
+
+        @Bean
+        public KeyRingReloader jwtKeyRingReloader(JwtKeyRing keyRing, Environment environment) {
+            return new KeyRingReloader(keyRing, environment);
+        }
+    }
+
+    static class KeyRingReloader {
+
+        private final JwtKeyRing keyRing;
+        private final Environment environment;
+
+        KeyRingReloader(JwtKeyRing keyRing, Environment environment) {
+            this.keyRing = keyRing;
+            this.environment = environment;
+        }
+
+        @EventListener
+        public void onEnvironmentChange(EnvironmentChangeEvent event) {
+            if (event.getKeys().stream().noneMatch(key -> key.startsWith("jwt."))) {
+                return;
+            }
+            try {
+                keyRing.rotate(configuredSecrets(environment), activeKid(environment));
+                log.info("JWT key ring reloaded with {} keys, active '{}'", keyRing.size(), keyRing.activeKid());
+            } catch (IllegalArgumentException e) {
+                log.error("JWT key reload rejected, keeping current keys: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -2,15 +2,82 @@ package com.healthcare.rdv;
 
 import com.healthcare.rdv.entities.Rdv;
 import com.healthcare.rdv.repositories.RdvRepository;
+import com.healthcare.rdv.services.AvailabilityIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
 
 @Configuration
 public class DataInitializer {
 
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
+    // Rows created while Rdv.id was an IDENTITY column are not covered by rdv_seq; move the sequence
+    // past them once. With allocationSize 50, Hibernate hands out (value - 49 .. value) for each nextval.
+    // Runs during bean initialization, after the schema update and before the web server and
+    // scheduled jobs start, so no request or import can take an id in the meantime.
+    @Bean
+    @DependsOn("entityManagerFactory")
+    InitializingBean alignRdvSequence(JdbcTemplate jdbcTemplate) {
+        return () -> {
+            Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from rdv", Long.class);
+            Long lastValue = jdbcTemplate.queryForObject("select last_value from rdv_seq", Long.class);
+            if (maxId != null && lastValue != null && maxId >= lastValue) {
+                jdbcTemplate.queryForObject("select setval('rdv_seq', ?, false)", Long.class, maxId + 50);
+                log.info("rdv_seq moved past existing appointment id {}", maxId);
+            }
+        };
+    }
+
+    // outbox_event_id_seq replaced the pooled outbox_event_seq; start it past events still waiting to be relayed
+    @Bean
+    @DependsOn("entityManagerFactory")
+    InitializingBean alignOutboxSequence(JdbcTemplate jdbcTemplate) {
+        return () -> {
+            Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from outbox_event", Long.class);
+            Long lastValue = jdbcTemplate.queryForObject("select last_value from outbox_event_id_seq", Long.class);
+            if (maxId != null && lastValue != null && maxId >= lastValue) {
+                jdbcTemplate.queryForObject("select setval('outbox_event_id_seq', ?, false)", Long.class, maxId + 1);
+                log.info("outbox_event_id_seq moved past pending outbox event id {}", maxId);
+            }
+        };
+    }
+
+    // Database-side guard against double bookings made on different instances: no two active appointments
+    // of a doctor may start less than one slot apart. The slot length is fixed when the constraint is created.
+    @Bean
+    @DependsOn("entityManagerFactory")
+    InitializingBean createSlotConstraint(JdbcTemplate jdbcTemplate, @Value("${rdv.slot.duration-minutes:30}") long slotMinutes) {
+        return () -> {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "select count(*) from pg_constraint where conname = ?", Integer.class, AvailabilityIndex.SLOT_CONSTRAINT);
+            if (existing != null && existing > 0) {
+                return;
+            }
+            try {
+                jdbcTemplate.execute("create extension if not exists btree_gist");
+                jdbcTemplate.execute("alter table rdv add constraint " + AvailabilityIndex.SLOT_CONSTRAINT
+                        + " exclude using gist (docteur_id with =,"
+                        + " tsrange(date_heure, date_heure + interval '" + slotMinutes + " minutes') with &&)"
+                        + " where (statut <> '" + AvailabilityIndex.CANCELLED_STATUS + "')");
+                log.info("Created booking constraint {} ({} minute slots)", AvailabilityIndex.SLOT_CONSTRAINT, slotMinutes);
+            } catch (DataAccessException e) {
+                // Existing overlapping rows (or a missing btree_gist extension) must be fixed by hand
+                log.error("Could not create booking constraint {}, only the in-memory check applies: {}",
+                        AvailabilityIndex.SLOT_CONSTRAINT, e.getMessage());
+            }
+        };
+    }
+
     @Bean
     CommandLineRunner initDatabase(RdvRepository repository) {
         return args -> {
@@ -0,0 +1,17 @@
+package com.healthcare.rdv.clients;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.util.List;
+
+@FeignClient(name = "billing-service")
+public interface BillingClient {
+
+    @GetMapping("/api/billing/invoices/rdv/{rdvId}")
+    InvoiceDTO getInvoiceByRdvId(@PathVariable("rdvId") Long rdvId);
+
+    @GetMapping("/api/billing/payments/rdv/{rdvId}")
+    List<PaymentDTO> getPaymentsByRdvId(@PathVariable("rdvId") Long rdvId);
+}
@@ -0,0 +1,170 @@
+package com.healthcare.rdv.clients;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local cache of doctors in front of {@link DocteurClient}.
+ * Entries are reloaded in the background once they are older than {@code docteur.cache.refresh-after-seconds},
+ * so reads keep being served from memory (and keep the last known value if docteur-service is down) until
+ * {@code docteur.cache.ttl-seconds} expires them. docteur-service change events invalidate entries immediately.
+ * Loads run on a small dedicated pool rather than inside the cache's map compute, so a slow
+ * Feign call never holds a map lock (which would also pin the carrier thread of a virtual thread),
+ * and never on the shared task executor used for request fan-out. The pool's queue is bounded and
+ * callers wait at most {@code docteur.cache.load-timeout-ms}, so a slow docteur-service cannot hang them.
+ */
+@Component
+public class DocteurCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DocteurCache.class);
+
+    public static final String CACHE_NAME = "docteurs";
+
+    @Autowired
+    private DocteurClient docteurClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${docteur.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${docteur.cache.ttl-seconds:1800}")
+    private long ttlSeconds;
+
+    @Value("${docteur.cache.refresh-after-seconds:300}")
+    private long refreshAfterSeconds;
+
+    @Value("${docteur.cache.load-threads:8}")
+    private int loadThreads;
+
+    @Value("${docteur.cache.load-queue-capacity:200}")
+    private int loadQueueCapacity;
+
+    @Value("${docteur.cache.load-timeout-ms:3000}")
+    private long loadTimeoutMs;
+
+    private ThreadPoolExecutor loadExecutor;
+
+    private AsyncLoadingCache<Long, DocteurDTO> cache;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "docteur-cache-load-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // A full queue rejects the load instead of running it on the caller inside the map compute
+        loadExecutor = new ThreadPoolExecutor(loadThreads, loadThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(loadQueueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .refreshAfterWrite(Duration.ofSeconds(refreshAfterSeconds))
+                .recordStats()
+                .executor(loadExecutor)
+                .buildAsync(new CacheLoader<Long, DocteurDTO>() {
+                    @Override
+                    public DocteurDTO load(Long docteurId) {
+                        log.debug("Loading doctor {} from docteur-service", docteurId);
+                        return docteurClient.getDocteur(docteurId);
+                    }
+
+                    @Override
+                    public Map<Long, DocteurDTO> loadAll(Set<? extends Long> docteurIds) {
+                        log.debug("Loading {} doctors from docteur-service", docteurIds.size());
+                        Map<Long, DocteurDTO> loaded = new HashMap<>();
+                        for (DocteurDTO docteur : docteurClient.getDocteurs(List.copyOf(docteurIds))) {
+                            loaded.put(docteur.getId(), docteur);
+                        }
+                        return loaded;
+                    }
+                });
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        loadExecutor.shutdown();
+    }
+
+    /**
+     * Returns the doctor, calling docteur-service only on a miss. Lookup failures are not cached
+     * and propagate to the caller, so the existing retry and circuit breaker still apply.
+     */
+    public DocteurDTO get(Long docteurId) {
+        return join(cache.get(docteurId));
+    }
+
+    /**
+     * Non-blocking variant for composing with other futures. The returned future is a copy, so
+     * completing or timing it out does not affect the cached entry.
+     */
+    public CompletableFuture<DocteurDTO> getAsync(Long docteurId) {
+        return cache.get(docteurId).copy();
+    }
+
+    /**
+     * Returns the doctors that exist among {@code docteurIds}; all misses are fetched with a single batch call.
+     */
+    public Map<Long, DocteurDTO> getAll(Collection<Long> docteurIds) {
+        return join(cache.getAll(docteurIds));
+    }
+
+    public void invalidate(Long docteurId) {
+        cache.synchronous().invalidate(docteurId);
+        log.info("Doctor {} evicted from cache", docteurId);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+        log.info("Doctor cache cleared");
+    }
+
+    // Rethrows the loader's own exception so callers (and @Retry/@CircuitBreaker) see the Feign failure.
+    // A timed-out load keeps running and still fills the cache for later callers.
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get(loadTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Doctor lookup timed out after " + loadTimeoutMs + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading doctors");
+        }
+    }
+}
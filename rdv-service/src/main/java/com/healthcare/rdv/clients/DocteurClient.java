@@ -3,10 +3,17 @@ package com.healthcare.rdv.clients;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.Collection;
+import java.util.List;
 
 @FeignClient(name = "docteur-service")
 public interface DocteurClient {
 
     @GetMapping("/api/docteurs/{id}")
     DocteurDTO getDocteur(@PathVariable("id") Long id);
+
+    @GetMapping("/api/docteurs/batch")
+    List<DocteurDTO> getDocteurs(@RequestParam("ids") Collection<Long> ids);
 }
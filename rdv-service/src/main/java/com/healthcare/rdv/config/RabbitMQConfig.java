@@ -29,6 +29,12 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.routing.key.cancelled}")
     private String routingKeyCancelled;
 
+    @Value("${rabbitmq.exchange.docteurs}")
+    private String docteursExchangeName;
+
+    @Value("${rabbitmq.routing.key.docteurs}")
+    private String routingKeyDocteurs;
+
     @Bean
     public TopicExchange appointmentsExchange() {
         return new TopicExchange(exchangeName);
@@ -63,6 +69,25 @@ public class RabbitMQConfig {
                 .with(routingKeyCancelled);
     }
 
+    @Bean
+    public TopicExchange docteursExchange() {
+        return new TopicExchange(docteursExchangeName);
+    }
+
+    // Every instance needs every invalidation, so each one gets its own exclusive auto-delete queue
+    @Bean
+    public Queue docteurCacheQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding bindingDocteurCache() {
+        return BindingBuilder
+                .bind(docteurCacheQueue())
+                .to(docteursExchange())
+                .with(routingKeyDocteurs);
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -0,0 +1,63 @@
+package com.healthcare.rdv.controllers;
+
+import com.healthcare.rdv.entities.DailyAgenda;
+import com.healthcare.rdv.exceptions.BadRequestException;
+import com.healthcare.rdv.services.DailyAgendaProjection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Doctor dashboards, served from the precomputed daily agenda (one key lookup per doctor-day).
+ */
+@RestController
+@RequestMapping("/api/rdv/agenda")
+public class AgendaController {
+
+    private static final Logger log = LoggerFactory.getLogger(AgendaController.class);
+
+    @Autowired
+    private DailyAgendaProjection dailyAgendaProjection;
+
+    @Value("${rdv.agenda.rebuild-max-range-days:366}")
+    private long maxRebuildRangeDays;
+
+    @GetMapping("/{jour}")
+    @PreAuthorize("hasAnyRole('DOCTOR', 'ADMIN', 'RECEPTIONIST')")
+    public List<DailyAgenda> getDay(@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate jour) {
+        log.info("Fetching daily agendas for {}", jour);
+        return dailyAgendaProjection.getDay(jour);
+    }
+
+    @GetMapping("/{jour}/docteur/{docteurId}")
+    @PreAuthorize("hasAnyRole('DOCTOR', 'ADMIN', 'RECEPTIONIST')")
+    public DailyAgenda getDocteurDay(@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate jour,
+                                     @PathVariable Long docteurId) {
+        log.info("Fetching daily agenda for doctor ID: {} on {}", docteurId, jour);
+        return dailyAgendaProjection.get(docteurId, jour);
+    }
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Map<String, Object> rebuild(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRebuildRangeDays) {
+            throw new BadRequestException("Rebuild range cannot exceed " + maxRebuildRangeDays + " days");
+        }
+        log.info("Rebuilding daily agendas between {} and {}", from, to);
+        int rebuilt = dailyAgendaProjection.rebuild(from, to);
+        return Map.of("from", from, "to", to, "agendas", rebuilt);
+    }
+}
@@ -1,26 +1,52 @@
 package com.healthcare.rdv.controllers;
 
-import com.healthcare.rdv.clients.DocteurClient;
+import com.healthcare.rdv.clients.DocteurCache;
 import com.healthcare.rdv.clients.DocteurDTO;
 import com.healthcare.rdv.entities.Rdv;
 import com.healthcare.rdv.exceptions.BadRequestException;
+import com.healthcare.rdv.exceptions.ConflictException;
 import com.healthcare.rdv.exceptions.ResourceNotFoundException;
+import com.healthcare.rdv.models.AgendaEntry;
+import com.healthcare.rdv.models.CursorPage;
+import com.healthcare.rdv.models.ImportReport;
+import com.healthcare.rdv.models.RdvDetails;
+import com.healthcare.rdv.models.RdvWithDocteur;
+import com.healthcare.rdv.models.TimeSlot;
 import com.healthcare.rdv.repositories.RdvRepository;
-import com.healthcare.rdv.services.AppointmentEventPublisher;
+import com.healthcare.rdv.services.AvailabilityIndex;
+import com.healthcare.rdv.services.RdvDetailsService;
+import com.healthcare.rdv.services.RdvImportService;
+import com.healthcare.rdv.services.RdvQueryService;
+import com.healthcare.rdv.services.RdvService;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 @RestController
 @RequestMapping("/api/rdv")
@@ -32,18 +58,57 @@ public class RdvController {
     private RdvRepository rdvRepository;
 
     @Autowired
-    private DocteurClient docteurClient;
+    private DocteurCache docteurCache;
     
     @Autowired
-    private AppointmentEventPublisher eventPublisher;
+    private RdvService rdvService;
+
+    @Autowired
+    private RdvQueryService rdvQueryService;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private RdvImportService rdvImportService;
+
+    @Autowired
+    private RdvDetailsService rdvDetailsService;
+
+    @Value("${rdv.slots.max-range-days:31}")
+    private long maxSlotRangeDays;
+
+    @Value("${rdv.agenda.max-range-days:92}")
+    private long maxAgendaRangeDays;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('PATIENT', 'DOCTOR', 'ADMIN', 'RECEPTIONIST')")
-    public List<Rdv> getAllRdv() {
+    public List<?> getAllRdv(@RequestParam(defaultValue = "false") boolean enrich) {
         log.info("Fetching all appointments");
         List<Rdv> rdvs = rdvRepository.findAll();
         log.info("Found {} appointments", rdvs.size());
-        return rdvs;
+        return enrich ? withDocteurs(rdvs) : rdvs;
+    }
+
+    @GetMapping("/page")
+    @PreAuthorize("hasAnyRole('PATIENT', 'DOCTOR', 'ADMIN', 'RECEPTIONIST')")
+    public CursorPage<Rdv> getRdvPage(@RequestParam(required = false) String cursor,
+                                      @RequestParam(required = false) Integer size,
+                                      @RequestParam(defaultValue = RdvQueryService.SORT_ID) String sort) {
+        log.info("Fetching appointment page (sort: {}, size: {}, cursor: {})", sort, size, cursor);
+        CursorPage<Rdv> page = rdvQueryService.findPage(cursor, size, sort);
+        log.info("Found {} appointments, hasMore: {}", page.getSize(), page.isHasMore());
+        return page;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('PATIENT', 'DOCTOR', 'ADMIN', 'RECEPTIONIST')")
+    public ResponseEntity<StreamingResponseBody> streamRdv() {
+        log.info("Streaming all appointments as NDJSON");
+        StreamingResponseBody body = rdvQueryService::writeNdjson;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
@@ -59,7 +124,7 @@ public class RdvController {
         response.put("rdv", rdv);
         
         try {
-            DocteurDTO docteur = docteurClient.getDocteur(rdv.getDocteurId());
+            DocteurDTO docteur = docteurCache.get(rdv.getDocteurId());
             response.put("docteur", docteur);
             log.info("Successfully fetched appointment and doctor details for ID: {}", id);
         } catch (Exception e) {
@@ -84,13 +149,70 @@ public class RdvController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{id}/details")
+    @PreAuthorize("hasAnyRole('PATIENT', 'DOCTOR', 'ADMIN', 'RECEPTIONIST')")
+    public RdvDetails getRdvDetails(@PathVariable Long id) {
+        log.info("Fetching aggregated details for appointment ID: {}", id);
+        return rdvDetailsService.getDetails(id);
+    }
+
     @GetMapping("/docteur/{docteurId}")
     @PreAuthorize("hasAnyRole('DOCTOR', 'ADMIN')")
-    public List<Rdv> getRdvByDocteur(@PathVariable Long docteurId) {
+    public List<?> getRdvByDocteur(@PathVariable Long docteurId,
+                                   @RequestParam(defaultValue = "false") boolean enrich) {
         log.info("Fetching appointments for doctor ID: {}", docteurId);
         List<Rdv> rdvs = rdvRepository.findByDocteurId(docteurId);
         log.info("Found {} appointments for doctor {}", rdvs.size(), docteurId);
-        return rdvs;
+        return enrich ? withDocteurs(rdvs) : rdvs;
+    }
+
+    @GetMapping(value = "/docteur/{docteurId}", params = {"from", "to"})
+    @PreAuthorize("hasAnyRole('DOCTOR', 'ADMIN')")
+    public List<AgendaEntry> getDocteurAgenda(@PathVariable Long docteurId,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Fetching agenda for doctor ID: {} between {} and {}", docteurId, from, to);
+
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+        if (Duration.between(from, to).toDays() > maxAgendaRangeDays) {
+            throw new BadRequestException("Agenda range cannot exceed " + maxAgendaRangeDays + " days");
+        }
+
+        List<AgendaEntry> agenda = rdvRepository.findAgenda(docteurId, from, to);
+        log.info("Found {} agenda entries for doctor {}", agenda.size(), docteurId);
+        return agenda;
+    }
+
+    @GetMapping("/docteur/{docteurId}/slots")
+    public List<TimeSlot> getFreeSlots(@PathVariable Long docteurId,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                       @RequestParam(required = false) Integer duration) {
+        log.info("Searching free slots for doctor {} between {} and {}", docteurId, from, to);
+
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+        if (Duration.between(from, to).toDays() > maxSlotRangeDays) {
+            throw new BadRequestException("Slot search range cannot exceed " + maxSlotRangeDays + " days");
+        }
+        if (duration != null && duration < 1) {
+            throw new BadRequestException("Duration must be at least 1 minute");
+        }
+
+        // Searches starting in the past begin at the next bookable slot, not at the current instant
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from.isBefore(now) ? availabilityIndex.nextSlotBoundary(now) : from;
+        if (!start.isBefore(to)) {
+            return List.of();
+        }
+        Duration slotDuration = duration == null ? availabilityIndex.slotDuration() : Duration.ofMinutes(duration);
+
+        List<TimeSlot> slots = availabilityIndex.findFreeSlots(docteurId, start, to, slotDuration);
+        log.info("Found {} free slots for doctor {}", slots.size(), docteurId);
+        return slots;
     }
 
     @PostMapping
@@ -101,7 +223,7 @@ public class RdvController {
         
         // Validate doctor exists
         try {
-            DocteurDTO docteur = docteurClient.getDocteur(rdv.getDocteurId());
+            DocteurDTO docteur = docteurCache.get(rdv.getDocteurId());
             if (docteur == null) {
                 log.warn("Doctor with ID {} not found", rdv.getDocteurId());
                 throw new BadRequestException("Doctor not found with ID: " + rdv.getDocteurId());
@@ -113,28 +235,36 @@ public class RdvController {
         }
         
         rdv.setStatut("CONFIRMÉ");
-        Rdv savedRdv = rdvRepository.save(rdv);
+        // The CREATED event is written to the outbox in the same transaction
+        Rdv savedRdv = saveWithReservation(rdv, rdvService::create);
         log.info("Appointment created successfully with ID: {}", savedRdv.getId());
         
-        // Publish event for async notification
-        eventPublisher.publishAppointmentCreated(savedRdv);
-        
         return ResponseEntity.status(HttpStatus.CREATED).body(savedRdv);
     }
     
     public ResponseEntity<Rdv> createRdvFallback(Rdv rdv, Exception e) {
+        if (e instanceof ConflictException) {
+            throw (ConflictException) e;
+        }
         log.error("Circuit breaker fallback triggered for createRdv. Error: {}", e.getMessage());
         
         rdv.setStatut("EN ATTENTE");
-        Rdv savedRdv = rdvRepository.save(rdv);
+        Rdv savedRdv = saveWithReservation(rdv, rdvService::create);
         log.info("Appointment created with pending status. ID: {}", savedRdv.getId());
         
-        // Still publish event even with fallback
-        eventPublisher.publishAppointmentCreated(savedRdv);
-        
         return ResponseEntity.status(HttpStatus.CREATED).body(savedRdv);
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasAnyRole('ADMIN', 'RECEPTIONIST')")
+    public ImportReport importRdv(HttpServletRequest request) throws IOException {
+        RdvImportService.Format format = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(request.getContentType()))
+                ? RdvImportService.Format.NDJSON
+                : RdvImportService.Format.CSV;
+        log.info("Importing appointments from {} upload", format);
+        return rdvImportService.importRdvs(request.getInputStream(), format);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('PATIENT', 'ADMIN', 'RECEPTIONIST')")
     public ResponseEntity<Rdv> updateRdv(@PathVariable Long id, @Valid @RequestBody Rdv rdvDetails) {
@@ -142,6 +272,7 @@ public class RdvController {
         
         Rdv rdv = rdvRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment", "id", id));
+        LocalDateTime previousDateHeure = rdv.getDateHeure();
         
         rdv.setDateHeure(rdvDetails.getDateHeure());
         rdv.setMotif(rdvDetails.getMotif());
@@ -151,12 +282,9 @@ public class RdvController {
         rdv.setPatientEmail(rdvDetails.getPatientEmail());
         rdv.setPatientTelephone(rdvDetails.getPatientTelephone());
         
-        Rdv updatedRdv = rdvRepository.save(rdv);
+        Rdv updatedRdv = saveWithReservation(rdv, r -> rdvService.update(r, previousDateHeure));
         log.info("Appointment {} updated successfully", id);
         
-        // Publish update event
-        eventPublisher.publishAppointmentUpdated(updatedRdv);
-        
         return ResponseEntity.ok(updatedRdv);
     }
 
@@ -168,15 +296,67 @@ public class RdvController {
         Rdv rdv = rdvRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment", "id", id));
         
-        // Publish cancellation event before deleting
-        eventPublisher.publishAppointmentCancelled(rdv);
-        
-        rdvRepository.delete(rdv);
+        rdvService.delete(rdv);
+        availabilityIndex.remove(id);
         log.info("Appointment {} deleted successfully", id);
         
         return ResponseEntity.ok().build();
     }
     
+    // Resolves all distinct doctors of the list in one cache lookup (one batch call for the misses)
+    private List<RdvWithDocteur> withDocteurs(List<Rdv> rdvs) {
+        long start = System.currentTimeMillis();
+        Set<Long> docteurIds = new LinkedHashSet<>();
+        for (Rdv rdv : rdvs) {
+            docteurIds.add(rdv.getDocteurId());
+        }
+
+        Map<Long, DocteurDTO> docteurs;
+        try {
+            docteurs = docteurIds.isEmpty() ? Collections.emptyMap() : docteurCache.getAll(docteurIds);
+        } catch (Exception e) {
+            log.warn("Could not fetch doctor details for {} doctors: {}", docteurIds.size(), e.getMessage());
+            docteurs = Collections.emptyMap();
+        }
+
+        List<RdvWithDocteur> enriched = new ArrayList<>(rdvs.size());
+        for (Rdv rdv : rdvs) {
+            enriched.add(new RdvWithDocteur(rdv, docteurs.get(rdv.getDocteurId())));
+        }
+        log.info("Enriched {} appointments with {} doctors in {} ms",
+                rdvs.size(), docteurs.size(), System.currentTimeMillis() - start);
+        return enriched;
+    }
+
+    // Holds the doctor's slot in the availability index while the row is written, so concurrent
+    // bookings for the same slot get a 409 instead of both succeeding
+    private Rdv saveWithReservation(Rdv rdv, UnaryOperator<Rdv> writer) {
+        if (AvailabilityIndex.CANCELLED_STATUS.equals(rdv.getStatut())) {
+            Rdv saved = writer.apply(rdv);
+            availabilityIndex.remove(saved.getId());
+            return saved;
+        }
+
+        AvailabilityIndex.Booking booking = availabilityIndex.reserve(rdv.getDocteurId(), rdv.getDateHeure(), rdv.getId());
+        Rdv saved;
+        try {
+            saved = writer.apply(rdv);
+        } catch (DataIntegrityViolationException e) {
+            availabilityIndex.release(booking);
+            // Slot taken by a booking made on another instance, caught by the database constraint
+            String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (cause != null && cause.contains(AvailabilityIndex.SLOT_CONSTRAINT)) {
+                throw new ConflictException("Doctor " + rdv.getDocteurId() + " is already booked at " + rdv.getDateHeure());
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            availabilityIndex.release(booking);
+            throw e;
+        }
+        availabilityIndex.bind(booking, saved.getId());
+        return saved;
+    }
+    
     @GetMapping("/welcome")
     public String welcome() {
         return "Welcome to RDV Service!";
@@ -20,7 +20,12 @@ public class WelcomeController {
         response.put("port", 8082);
         response.put("endpoints", Map.of(
             "rdv", "/api/rdv",
+            "rdv-page", "/api/rdv/page?cursor=&size=&sort=id|dateHeure",
+            "rdv-stream", "/api/rdv/stream",
             "rdv-by-docteur", "/api/rdv/docteur/{docteurId}",
+            "rdv-import", "/api/rdv/import",
+            "rdv-free-slots", "/api/rdv/docteur/{docteurId}/slots?from=&to=&duration=",
+            "rdv-daily-agenda", "/api/rdv/agenda/{jour}/docteur/{docteurId}",
             "h2-console", "/h2-console"
         ));
         response.put("description", "Service de gestion des rendez-vous");
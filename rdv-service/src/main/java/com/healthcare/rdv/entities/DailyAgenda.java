@@ -0,0 +1,98 @@
+package com.healthcare.rdv.entities;
+
+import com.healthcare.rdv.models.AgendaEntry;
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Read model: one row per doctor and day, holding that day's appointments in time order, the count
+ * per statut and the doctor's display name. Maintained by {@code DailyAgendaProjection}; never edited directly.
+ */
+@Entity
+@Table(name = "daily_agenda", indexes = @Index(name = "idx_daily_agenda_jour", columnList = "jour"))
+public class DailyAgenda {
+
+    @EmbeddedId
+    private DailyAgendaId id;
+
+    private String docteurNom;
+
+    private int total;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private Map<String, Long> countsByStatut = new TreeMap<>();
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<AgendaEntry> slots = new ArrayList<>();
+
+    private LocalDateTime updatedAt;
+
+    public DailyAgenda() {
+    }
+
+    public DailyAgenda(DailyAgendaId id) {
+        this.id = id;
+    }
+
+    // Getters and Setters
+    public DailyAgendaId getId() {
+        return id;
+    }
+
+    public void setId(DailyAgendaId id) {
+        this.id = id;
+    }
+
+    public String getDocteurNom() {
+        return docteurNom;
+    }
+
+    public void setDocteurNom(String docteurNom) {
+        this.docteurNom = docteurNom;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public Map<String, Long> getCountsByStatut() {
+        return countsByStatut;
+    }
+
+    public void setCountsByStatut(Map<String, Long> countsByStatut) {
+        this.countsByStatut = countsByStatut;
+    }
+
+    public List<AgendaEntry> getSlots() {
+        return slots;
+    }
+
+    public void setSlots(List<AgendaEntry> slots) {
+        this.slots = slots;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
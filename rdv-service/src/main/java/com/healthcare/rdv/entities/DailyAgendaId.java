@@ -0,0 +1,60 @@
+package com.healthcare.rdv.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Embeddable
+public class DailyAgendaId implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Column(name = "docteur_id")
+    private Long docteurId;
+
+    @Column(name = "jour")
+    private LocalDate jour;
+
+    public DailyAgendaId() {
+    }
+
+    public DailyAgendaId(Long docteurId, LocalDate jour) {
+        this.docteurId = docteurId;
+        this.jour = jour;
+    }
+
+    // Getters and Setters
+    public Long getDocteurId() {
+        return docteurId;
+    }
+
+    public void setDocteurId(Long docteurId) {
+        this.docteurId = docteurId;
+    }
+
+    public LocalDate getJour() {
+        return jour;
+    }
+
+    public void setJour(LocalDate jour) {
+        this.jour = jour;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DailyAgendaId other)) {
+            return false;
+        }
+        return Objects.equals(docteurId, other.docteurId) && Objects.equals(jour, other.jour);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(docteurId, jour);
+    }
+}
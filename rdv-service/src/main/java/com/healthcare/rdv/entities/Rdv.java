@@ -1,21 +1,29 @@
 package com.healthcare.rdv.entities;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.*;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_rdv_docteur_date", columnList = "docteur_id, date_heure"))
 public class Rdv {
 
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts (see DataInitializer#alignRdvSequence)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rdv_seq")
+    @SequenceGenerator(name = "rdv_seq", sequenceName = "rdv_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Doctor ID is required")
+    @Column(name = "docteur_id")
     private Long docteurId;
 
     @NotBlank(message = "Patient last name is required")
@@ -36,6 +44,7 @@ public class Rdv {
 
     @NotNull(message = "Appointment date and time is required")
     @Future(message = "Appointment must be in the future")
+    @Column(name = "date_heure")
     private LocalDateTime dateHeure;
 
     @NotBlank(message = "Appointment reason is required")
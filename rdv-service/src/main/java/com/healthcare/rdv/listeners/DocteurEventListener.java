@@ -0,0 +1,44 @@
+package com.healthcare.rdv.listeners;
+
+import com.healthcare.rdv.clients.DocteurCache;
+import com.healthcare.rdv.events.DocteurEvent;
+import com.healthcare.rdv.services.DailyAgendaProjection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.listener.AsyncConsumerStartedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DocteurEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(DocteurEventListener.class);
+
+    @Autowired
+    private DocteurCache docteurCache;
+
+    @Autowired
+    private DailyAgendaProjection dailyAgendaProjection;
+
+    @RabbitListener(queues = "#{docteurCacheQueue.name}")
+    public void handleDocteurEvent(DocteurEvent event) {
+        log.info("Received {} event for doctor ID: {}", event.getEventType(), event.getDocteurId());
+        if (event.getDocteurId() == null) {
+            docteurCache.invalidateAll();
+        } else {
+            docteurCache.invalidate(event.getDocteurId());
+            if ("UPDATED".equals(event.getEventType())) {
+                // Past agendas keep the name the doctor had at the time
+                dailyAgendaProjection.renameDocteur(event.getDocteurId());
+            }
+        }
+    }
+
+    // A (re)started consumer means a new anonymous queue, so events sent while disconnected were lost
+    @EventListener
+    public void onConsumerStarted(AsyncConsumerStartedEvent event) {
+        docteurCache.invalidateAll();
+    }
+}
@@ -0,0 +1,73 @@
+package com.healthcare.rdv.models;
+
+import java.time.LocalDateTime;
+
+public class AgendaEntry {
+    private Long id;
+    private LocalDateTime dateHeure;
+    private String patientNom;
+    private String patientPrenom;
+    private String motif;
+    private String statut;
+
+    public AgendaEntry() {
+    }
+
+    public AgendaEntry(Long id, LocalDateTime dateHeure, String patientNom, String patientPrenom, String motif, String statut) {
+        this.id = id;
+        this.dateHeure = dateHeure;
+        this.patientNom = patientNom;
+        this.patientPrenom = patientPrenom;
+        this.motif = motif;
+        this.statut = statut;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getDateHeure() {
+        return dateHeure;
+    }
+
+    public void setDateHeure(LocalDateTime dateHeure) {
+        this.dateHeure = dateHeure;
+    }
+
+    public String getPatientNom() {
+        return patientNom;
+    }
+
+    public void setPatientNom(String patientNom) {
+        this.patientNom = patientNom;
+    }
+
+    public String getPatientPrenom() {
+        return patientPrenom;
+    }
+
+    public void setPatientPrenom(String patientPrenom) {
+        this.patientPrenom = patientPrenom;
+    }
+
+    public String getMotif() {
+        return motif;
+    }
+
+    public void setMotif(String motif) {
+        this.motif = motif;
+    }
+
+    public String getStatut() {
+        return statut;
+    }
+
+    public void setStatut(String statut) {
+        this.statut = statut;
+    }
+}
@@ -0,0 +1,62 @@
+package com.healthcare.rdv.models;
+
+import com.healthcare.rdv.clients.DocteurDTO;
+import com.healthcare.rdv.clients.InvoiceDTO;
+import com.healthcare.rdv.clients.PaymentDTO;
+import com.healthcare.rdv.entities.Rdv;
+
+import java.util.List;
+import java.util.Map;
+
+public class RdvDetails {
+    private Rdv rdv;
+    private DocteurDTO docteur;
+    private InvoiceDTO invoice;
+    private List<PaymentDTO> payments;
+    // Dependency name -> reason, for the parts that could not be fetched
+    private Map<String, String> errors;
+
+    public RdvDetails() {
+    }
+
+    // Getters and Setters
+    public Rdv getRdv() {
+        return rdv;
+    }
+
+    public void setRdv(Rdv rdv) {
+        this.rdv = rdv;
+    }
+
+    public DocteurDTO getDocteur() {
+        return docteur;
+    }
+
+    public void setDocteur(DocteurDTO docteur) {
+        this.docteur = docteur;
+    }
+
+    public InvoiceDTO getInvoice() {
+        return invoice;
+    }
+
+    public void setInvoice(InvoiceDTO invoice) {
+        this.invoice = invoice;
+    }
+
+    public List<PaymentDTO> getPayments() {
+        return payments;
+    }
+
+    public void setPayments(List<PaymentDTO> payments) {
+        this.payments = payments;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,34 @@
+package com.healthcare.rdv.models;
+
+import com.healthcare.rdv.clients.DocteurDTO;
+import com.healthcare.rdv.entities.Rdv;
+
+public class RdvWithDocteur {
+    private Rdv rdv;
+    private DocteurDTO docteur;
+
+    public RdvWithDocteur() {
+    }
+
+    public RdvWithDocteur(Rdv rdv, DocteurDTO docteur) {
+        this.rdv = rdv;
+        this.docteur = docteur;
+    }
+
+    // Getters and Setters
+    public Rdv getRdv() {
+        return rdv;
+    }
+
+    public void setRdv(Rdv rdv) {
+        this.rdv = rdv;
+    }
+
+    public DocteurDTO getDocteur() {
+        return docteur;
+    }
+
+    public void setDocteur(DocteurDTO docteur) {
+        this.docteur = docteur;
+    }
+}
@@ -0,0 +1,31 @@
+package com.healthcare.rdv.repositories;
+
+import com.healthcare.rdv.entities.DailyAgenda;
+import com.healthcare.rdv.entities.DailyAgendaId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyAgendaRepository extends JpaRepository<DailyAgenda, DailyAgendaId> {
+
+    List<DailyAgenda> findByIdJourOrderByIdDocteurIdAsc(LocalDate jour);
+
+    @Query("select a.id from DailyAgenda a where a.id.jour between :from and :to")
+    List<DailyAgendaId> findIdsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("update DailyAgenda a set a.docteurNom = :docteurNom where a.id.docteurId = :docteurId and a.id.jour >= :from")
+    int renameDocteur(@Param("docteurId") Long docteurId,
+                      @Param("docteurNom") String docteurNom,
+                      @Param("from") LocalDate from);
+
+    // Serializes recomputation of one doctor-day across transactions and instances
+    @Query(value = "select 1 from pg_advisory_xact_lock(:docteurKey, :dayKey)", nativeQuery = true)
+    Integer lockDay(@Param("docteurKey") int docteurKey, @Param("dayKey") int dayKey);
+}
@@ -0,0 +1,21 @@
+package com.healthcare.rdv.repositories;
+
+import com.healthcare.rdv.entities.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("select e from OutboxEvent e order by e.id asc")
+    List<OutboxEvent> findOldest(Pageable pageable);
+
+    // Transaction-scoped lock so a single instance relays at a time; released on commit or rollback
+    @Query(value = "select pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+}
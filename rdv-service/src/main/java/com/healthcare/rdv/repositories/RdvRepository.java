@@ -1,12 +1,65 @@
 package com.healthcare.rdv.repositories;
 
+import com.healthcare.rdv.entities.DailyAgendaId;
 import com.healthcare.rdv.entities.Rdv;
+import com.healthcare.rdv.models.AgendaEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface RdvRepository extends JpaRepository<Rdv, Long> {
     List<Rdv> findByDocteurId(Long docteurId);
+
+    // Range scan on idx_rdv_docteur_date; selects only the columns an agenda needs
+    @Query("select new com.healthcare.rdv.models.AgendaEntry(r.id, r.dateHeure, r.patientNom, r.patientPrenom, r.motif, r.statut) " +
+            "from Rdv r where r.docteurId = :docteurId and r.dateHeure >= :from and r.dateHeure < :to " +
+            "order by r.dateHeure asc")
+    List<AgendaEntry> findAgenda(@Param("docteurId") Long docteurId,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to);
+
+    // Doctor-days that have at least one appointment, for rebuilding the daily agenda projection
+    @Query("select distinct new com.healthcare.rdv.entities.DailyAgendaId(r.docteurId, cast(r.dateHeure as LocalDate)) " +
+            "from Rdv r where r.dateHeure >= :from and r.dateHeure < :to")
+    List<DailyAgendaId> findAgendaDays(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Keyset pagination ordered by id
+    List<Rdv> findAllByOrderByIdAsc(Pageable pageable);
+
+    @Query("select r from Rdv r where r.id > :afterId order by r.id asc")
+    List<Rdv> findPageAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Keyset pagination ordered by (dateHeure, id)
+    List<Rdv> findAllByOrderByDateHeureAscIdAsc(Pageable pageable);
+
+    @Query("select r from Rdv r where r.dateHeure > :afterDate or (r.dateHeure = :afterDate and r.id > :afterId) " +
+            "order by r.dateHeure asc, r.id asc")
+    List<Rdv> findPageAfterDateHeure(@Param("afterDate") LocalDateTime afterDate,
+                                     @Param("afterId") Long afterId,
+                                     Pageable pageable);
+
+    // Server-side cursor for NDJSON export; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r from Rdv r order by r.id asc")
+    Stream<Rdv> streamAllOrderById();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r from Rdv r where r.dateHeure >= :from")
+    Stream<Rdv> streamUpcoming(@Param("from") LocalDateTime from);
 }
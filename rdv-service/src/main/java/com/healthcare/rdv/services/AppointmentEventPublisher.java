@@ -1,21 +1,37 @@
 package com.healthcare.rdv.services;
 
+import com.healthcare.rdv.entities.OutboxEvent;
 import com.healthcare.rdv.entities.Rdv;
 import com.healthcare.rdv.events.AppointmentEvent;
+import com.healthcare.rdv.repositories.OutboxEventRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Records appointment events in the outbox as part of the caller's transaction.
+ * {@link OutboxRelay} sends them to RabbitMQ after commit, so no broker call happens on the request thread.
+ */
 @Service
 public class AppointmentEventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(AppointmentEventPublisher.class);
 
     @Autowired
-    private RabbitTemplate rabbitTemplate;
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private MessageConverter messageConverter;
 
     @Value("${rabbitmq.exchange.appointments}")
     private String exchangeName;
@@ -29,25 +45,33 @@ public class AppointmentEventPublisher {
     @Value("${rabbitmq.routing.key.cancelled}")
     private String routingKeyCancelled;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishAppointmentCreated(Rdv rdv) {
-        AppointmentEvent event = createEventFromRdv("CREATED", rdv);
-        log.info("Publishing CREATED event for appointment ID: {}", rdv.getId());
-        rabbitTemplate.convertAndSend(exchangeName, routingKeyCreated, event);
-        log.info("CREATED event published successfully for appointment ID: {}", rdv.getId());
+        enqueue(createEventFromRdv("CREATED", rdv), routingKeyCreated);
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishAppointmentUpdated(Rdv rdv) {
-        AppointmentEvent event = createEventFromRdv("UPDATED", rdv);
-        log.info("Publishing UPDATED event for appointment ID: {}", rdv.getId());
-        rabbitTemplate.convertAndSend(exchangeName, routingKeyUpdated, event);
-        log.info("UPDATED event published successfully for appointment ID: {}", rdv.getId());
+        enqueue(createEventFromRdv("UPDATED", rdv), routingKeyUpdated);
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishAppointmentCancelled(Rdv rdv) {
-        AppointmentEvent event = createEventFromRdv("CANCELLED", rdv);
-        log.info("Publishing CANCELLED event for appointment ID: {}", rdv.getId());
-        rabbitTemplate.convertAndSend(exchangeName, routingKeyCancelled, event);
-        log.info("CANCELLED event published successfully for appointment ID: {}", rdv.getId());
+        enqueue(createEventFromRdv("CANCELLED", rdv), routingKeyCancelled);
+    }
+
+    private void enqueue(AppointmentEvent event, String routingKey) {
+        // Serialize with the broker converter so relayed messages are identical to direct sends
+        Message message = messageConverter.toMessage(event, new MessageProperties());
+        String payloadType = message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        outboxEventRepository.save(new OutboxEvent(
+                event.getAppointmentId(),
+                event.getEventType(),
+                exchangeName,
+                routingKey,
+                payloadType,
+                new String(message.getBody(), StandardCharsets.UTF_8)));
+        log.info("{} event queued in outbox for appointment ID: {}", event.getEventType(), event.getAppointmentId());
     }
 
     private AppointmentEvent createEventFromRdv(String eventType, Rdv rdv) {
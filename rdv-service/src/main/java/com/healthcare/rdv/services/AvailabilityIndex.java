@@ -0,0 +1,271 @@
+package com.healthcare.rdv.services;
+
+import com.healthcare.rdv.entities.Rdv;
+import com.healthcare.rdv.exceptions.ConflictException;
+import com.healthcare.rdv.models.TimeSlot;
+import com.healthcare.rdv.repositories.RdvRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index of upcoming appointments per doctor, ordered by start time.
+ * Every appointment occupies a fixed slot of {@code rdv.slot.duration-minutes}, so two bookings
+ * conflict exactly when their start times are less than one slot apart; that makes the booking
+ * check a single range lookup in the doctor's sorted set.
+ * The index only sees this instance's bookings; the exclusion constraint {@link #SLOT_CONSTRAINT}
+ * (created by DataInitializer) enforces the same rule in the database across instances.
+ */
+@Service
+public class AvailabilityIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AvailabilityIndex.class);
+
+    public static final String CANCELLED_STATUS = "ANNULÉ";
+
+    public static final String SLOT_CONSTRAINT = "rdv_doctor_slot_excl";
+
+    private final ConcurrentHashMap<Long, DoctorSchedule> schedules = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Booking> bookingsByRdvId = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Autowired
+    private RdvRepository rdvRepository;
+
+    @Value("${rdv.slot.duration-minutes:30}")
+    private long slotMinutes;
+
+    @Value("${rdv.slots.max-results:500}")
+    private int maxResults;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        long count = 0;
+        try (Stream<Rdv> upcoming = rdvRepository.streamUpcoming(LocalDateTime.now().minus(slotDuration()))) {
+            Iterator<Rdv> iterator = upcoming.iterator();
+            while (iterator.hasNext()) {
+                Rdv rdv = iterator.next();
+                if (!CANCELLED_STATUS.equals(rdv.getStatut())) {
+                    Booking booking = newBooking(rdv.getDocteurId(), rdv.getDateHeure());
+                    booking.rdvId = rdv.getId();
+                    // Requests served before warm-up completed have already indexed their appointment
+                    if (bookingsByRdvId.putIfAbsent(rdv.getId(), booking) == null) {
+                        schedule(rdv.getDocteurId()).add(booking);
+                        count++;
+                    }
+                }
+            }
+        }
+        log.info("Availability index warmed with {} upcoming appointments for {} doctors in {} ms",
+                count, schedules.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Reserves the slot starting at {@code start} for the doctor, or throws {@link ConflictException}
+     * if it overlaps another booking. {@code rdvId} is the appointment being moved (null for a new one);
+     * its current booking is ignored by the check and replaced once the reservation is bound.
+     */
+    public Booking reserve(Long docteurId, LocalDateTime start, Long rdvId) {
+        Booking booking = newBooking(docteurId, start);
+        DoctorSchedule schedule = schedule(docteurId);
+        schedule.lock.writeLock().lock();
+        try {
+            Booking conflict = schedule.findConflict(start, slotDuration(), rdvId);
+            if (conflict != null) {
+                throw new ConflictException("Doctor " + docteurId + " is already booked from "
+                        + conflict.start + " to " + conflict.end);
+            }
+            schedule.bookings.add(booking);
+        } finally {
+            schedule.lock.writeLock().unlock();
+        }
+        return booking;
+    }
+
+    public void bind(Booking booking, Long rdvId) {
+        booking.rdvId = rdvId;
+        Booking previous = bookingsByRdvId.put(rdvId, booking);
+        if (previous != null && previous != booking) {
+            schedule(previous.docteurId).remove(previous);
+        }
+    }
+
+    public void release(Booking booking) {
+        schedule(booking.docteurId).remove(booking);
+    }
+
+    public void remove(Long rdvId) {
+        Booking booking = bookingsByRdvId.remove(rdvId);
+        if (booking != null) {
+            schedule(booking.docteurId).remove(booking);
+        }
+    }
+
+    public List<TimeSlot> findFreeSlots(Long docteurId, LocalDateTime from, LocalDateTime to, Duration duration) {
+        DoctorSchedule schedule = schedules.get(docteurId);
+        List<TimeSlot> slots = new ArrayList<>();
+        LocalDateTime cursor = from;
+
+        if (schedule != null) {
+            schedule.lock.readLock().lock();
+            try {
+                // Bookings that started up to one slot before 'from' may still occupy it
+                NavigableSet<Booking> window = schedule.bookings.subSet(
+                        probe(from.minus(slotDuration()), Long.MAX_VALUE), false,
+                        probe(to, Long.MIN_VALUE), false);
+                for (Booking booking : window) {
+                    cursor = addSlots(slots, cursor, booking.start, duration);
+                    if (booking.end.isAfter(cursor)) {
+                        cursor = booking.end;
+                    }
+                    if (slots.size() >= maxResults) {
+                        return slots;
+                    }
+                }
+            } finally {
+                schedule.lock.readLock().unlock();
+            }
+        }
+
+        addSlots(slots, cursor, to, duration);
+        return slots;
+    }
+
+    public Duration slotDuration() {
+        return Duration.ofMinutes(slotMinutes);
+    }
+
+    /**
+     * First slot boundary at or after {@code time}; boundaries are multiples of the slot duration from midnight.
+     */
+    public LocalDateTime nextSlotBoundary(LocalDateTime time) {
+        LocalDateTime midnight = time.toLocalDate().atStartOfDay();
+        long slotNanos = slotDuration().toNanos();
+        long sinceMidnight = Duration.between(midnight, time).toNanos();
+        long slots = (sinceMidnight + slotNanos - 1) / slotNanos;
+        return midnight.plusNanos(slots * slotNanos);
+    }
+
+    @Scheduled(fixedDelayString = "${rdv.slots.prune-interval-ms:3600000}")
+    public void prunePastBookings() {
+        Booking cutoff = probe(LocalDateTime.now().minus(slotDuration()), Long.MIN_VALUE);
+        int pruned = 0;
+        for (DoctorSchedule schedule : schedules.values()) {
+            schedule.lock.writeLock().lock();
+            try {
+                NavigableSet<Booking> past = schedule.bookings.headSet(cutoff, false);
+                for (Booking booking : past) {
+                    if (booking.rdvId != null) {
+                        bookingsByRdvId.remove(booking.rdvId, booking);
+                    }
+                }
+                pruned += past.size();
+                past.clear();
+            } finally {
+                schedule.lock.writeLock().unlock();
+            }
+        }
+        if (pruned > 0) {
+            log.info("Pruned {} past bookings from the availability index", pruned);
+        }
+    }
+
+    // Appends consecutive free slots of 'duration' between cursor and limit; returns the new cursor
+    private LocalDateTime addSlots(List<TimeSlot> slots, LocalDateTime cursor, LocalDateTime limit, Duration duration) {
+        LocalDateTime slotEnd = cursor.plus(duration);
+        while (!slotEnd.isAfter(limit) && slots.size() < maxResults) {
+            slots.add(new TimeSlot(cursor, slotEnd));
+            cursor = slotEnd;
+            slotEnd = cursor.plus(duration);
+        }
+        return cursor;
+    }
+
+    private DoctorSchedule schedule(Long docteurId) {
+        return schedules.computeIfAbsent(docteurId, id -> new DoctorSchedule());
+    }
+
+    private Booking newBooking(Long docteurId, LocalDateTime start) {
+        return new Booking(docteurId, start, start.plus(slotDuration()), sequence.incrementAndGet());
+    }
+
+    private static Booking probe(LocalDateTime start, long seq) {
+        return new Booking(null, start, start, seq);
+    }
+
+    public static final class Booking {
+        private static final Comparator<Booking> ORDER = Comparator
+                .comparing((Booking b) -> b.start)
+                .thenComparingLong(b -> b.seq);
+
+        private final Long docteurId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long seq;
+        private volatile Long rdvId;
+
+        private Booking(Long docteurId, LocalDateTime start, LocalDateTime end, long seq) {
+            this.docteurId = docteurId;
+            this.start = start;
+            this.end = end;
+            this.seq = seq;
+        }
+    }
+
+    private static final class DoctorSchedule {
+        private final TreeSet<Booking> bookings = new TreeSet<>(Booking.ORDER);
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        // Caller holds the lock. A booking overlaps iff its start lies in (start - slot, start + slot).
+        private Booking findConflict(LocalDateTime start, Duration slot, Long ignoredRdvId) {
+            NavigableSet<Booking> candidates = bookings.subSet(
+                    probe(start.minus(slot), Long.MAX_VALUE), false,
+                    probe(start.plus(slot), Long.MIN_VALUE), false);
+            for (Booking candidate : candidates) {
+                if (ignoredRdvId == null || !ignoredRdvId.equals(candidate.rdvId)) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        private void add(Booking booking) {
+            lock.writeLock().lock();
+            try {
+                bookings.add(booking);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(Booking booking) {
+            lock.writeLock().lock();
+            try {
+                bookings.remove(booking);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.healthcare.rdv.services;
+
+import com.healthcare.rdv.clients.DocteurCache;
+import com.healthcare.rdv.clients.DocteurDTO;
+import com.healthcare.rdv.entities.DailyAgenda;
+import com.healthcare.rdv.entities.DailyAgendaId;
+import com.healthcare.rdv.models.AgendaEntry;
+import com.healthcare.rdv.repositories.DailyAgendaRepository;
+import com.healthcare.rdv.repositories.RdvRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Maintains the {@link DailyAgenda} read model. Writers call {@link #refresh} inside their own
+ * transaction for every doctor-day they touch; the day is recomputed from the Rdv rows with the
+ * (docteur_id, date_heure) index while holding an advisory lock on that doctor-day, so concurrent
+ * writers cannot overwrite each other's result.
+ */
+@Service
+public class DailyAgendaProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyAgendaProjection.class);
+
+    private static final Comparator<DailyAgendaId> LOCK_ORDER = Comparator
+            .comparing(DailyAgendaId::getDocteurId)
+            .thenComparing(DailyAgendaId::getJour);
+
+    @Autowired
+    private DailyAgendaRepository dailyAgendaRepository;
+
+    @Autowired
+    private RdvRepository rdvRepository;
+
+    @Autowired
+    private DocteurCache docteurCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${rdv.agenda.rebuild-chunk-size:200}")
+    private int rebuildChunkSize;
+
+    public static DailyAgendaId keyOf(Long docteurId, LocalDateTime dateHeure) {
+        return new DailyAgendaId(docteurId, dateHeure.toLocalDate());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Collection<DailyAgendaId> keys) {
+        // Fixed lock order so two writers touching the same days cannot deadlock
+        Set<DailyAgendaId> ordered = new TreeSet<>(LOCK_ORDER);
+        ordered.addAll(keys);
+        for (DailyAgendaId key : ordered) {
+            dailyAgendaRepository.lockDay(key.getDocteurId().intValue(), (int) key.getJour().toEpochDay());
+        }
+        for (DailyAgendaId key : ordered) {
+            recompute(key);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public DailyAgenda get(Long docteurId, LocalDate jour) {
+        DailyAgendaId key = new DailyAgendaId(docteurId, jour);
+        return dailyAgendaRepository.findById(key).orElseGet(() -> new DailyAgenda(key));
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyAgenda> getDay(LocalDate jour) {
+        return dailyAgendaRepository.findByIdJourOrderByIdDocteurIdAsc(jour);
+    }
+
+    /**
+     * Recomputes every doctor-day between {@code from} and {@code to} (inclusive) from the Rdv table,
+     * including days whose projection exists but no longer has appointments. Runs in small transactions
+     * and takes the same locks as live writers, so it is safe while the service is serving traffic.
+     */
+    public int rebuild(LocalDate from, LocalDate to) {
+        long start = System.currentTimeMillis();
+        Set<DailyAgendaId> keys = new HashSet<>(rdvRepository.findAgendaDays(from.atStartOfDay(), to.plusDays(1).atStartOfDay()));
+        keys.addAll(dailyAgendaRepository.findIdsBetween(from, to));
+
+        List<DailyAgendaId> ordered = new ArrayList<>(keys);
+        ordered.sort(LOCK_ORDER);
+        for (int i = 0; i < ordered.size(); i += rebuildChunkSize) {
+            List<DailyAgendaId> chunk = ordered.subList(i, Math.min(i + rebuildChunkSize, ordered.size()));
+            transactionTemplate.executeWithoutResult(status -> refresh(chunk));
+        }
+        log.info("Rebuilt {} daily agendas between {} and {} in {} ms",
+                ordered.size(), from, to, System.currentTimeMillis() - start);
+        return ordered.size();
+    }
+
+    @Transactional
+    public void renameDocteur(Long docteurId) {
+        String docteurNom = displayName(docteurId);
+        if (docteurNom != null) {
+            int updated = dailyAgendaRepository.renameDocteur(docteurId, docteurNom, LocalDate.now());
+            log.info("Updated doctor name on {} daily agendas for doctor {}", updated, docteurId);
+        }
+    }
+
+    private void recompute(DailyAgendaId key) {
+        List<AgendaEntry> entries = rdvRepository.findAgenda(key.getDocteurId(),
+                key.getJour().atStartOfDay(), key.getJour().plusDays(1).atStartOfDay());
+        DailyAgenda agenda = dailyAgendaRepository.findById(key).orElse(null);
+
+        if (entries.isEmpty()) {
+            if (agenda != null) {
+                dailyAgendaRepository.delete(agenda);
+            }
+            return;
+        }
+
+        if (agenda == null) {
+            agenda = new DailyAgenda(key);
+        }
+        Map<String, Long> counts = new TreeMap<>();
+        for (AgendaEntry entry : entries) {
+            counts.merge(entry.getStatut() == null ? "INCONNU" : entry.getStatut(), 1L, Long::sum);
+        }
+        String docteurNom = displayName(key.getDocteurId());
+        if (docteurNom != null) {
+            agenda.setDocteurNom(docteurNom);
+        }
+        agenda.setSlots(entries);
+        agenda.setCountsByStatut(counts);
+        agenda.setTotal(entries.size());
+        agenda.setUpdatedAt(LocalDateTime.now());
+        dailyAgendaRepository.save(agenda);
+    }
+
+    // Served from the doctor cache; the projection keeps its previous name if docteur-service is unreachable
+    private String displayName(Long docteurId) {
+        try {
+            DocteurDTO docteur = docteurCache.get(docteurId);
+            return docteur == null ? null : "Dr. " + docteur.getPrenom() + " " + docteur.getNom();
+        } catch (Exception e) {
+            log.warn("Could not resolve name of doctor {} for daily agenda: {}", docteurId, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.healthcare.rdv.services;
+
+import com.healthcare.rdv.entities.OutboxEvent;
+import com.healthcare.rdv.repositories.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Drains the outbox to RabbitMQ. A Postgres advisory lock keeps a single relay active across
+ * instances, and each batch is sent in id order on one channel. Outbox ids are allocated one by one
+ * and an appointment's changes are serialized by its row lock before the event takes its id, so
+ * events for an appointment arrive in the order they were written, whichever instance wrote them. Rows are deleted only after the broker confirms the
+ * whole batch; a failure rolls back and the batch is retried (delivery is at-least-once).
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final long RELAY_LOCK_KEY = 0x7264762d6f757462L;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RabbitTemplate rabbitTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Value("${outbox.relay.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:200}")
+    public void relay() {
+        int total = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Integer sent = transactionTemplate.execute(status -> relayBatch());
+                total += sent;
+                if (sent < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay failed after {} events, will retry: {}", total, e.getMessage());
+        }
+        if (total > 0) {
+            log.info("Relayed {} outbox events to RabbitMQ", total);
+        }
+    }
+
+    private int relayBatch() {
+        if (!outboxEventRepository.tryAdvisoryXactLock(RELAY_LOCK_KEY)) {
+            return 0;
+        }
+        List<OutboxEvent> batch = outboxEventRepository.findOldest(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        rabbitTemplate.invoke(operations -> {
+            for (OutboxEvent event : batch) {
+                operations.send(event.getExchange(), event.getRoutingKey(), toMessage(event));
+            }
+            operations.waitForConfirmsOrDie(confirmTimeoutMs);
+            return null;
+        });
+
+        outboxEventRepository.deleteAllInBatch(batch);
+        return batch.size();
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId("rdv-outbox-" + event.getId())
+                .setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getPayloadType())
+                .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.healthcare.rdv.services;
+
+import com.healthcare.rdv.clients.BillingClient;
+import com.healthcare.rdv.clients.DocteurCache;
+import com.healthcare.rdv.clients.DocteurDTO;
+import com.healthcare.rdv.clients.InvoiceDTO;
+import com.healthcare.rdv.clients.PaymentDTO;
+import com.healthcare.rdv.entities.Rdv;
+import com.healthcare.rdv.exceptions.ResourceNotFoundException;
+import com.healthcare.rdv.models.RdvDetails;
+import com.healthcare.rdv.repositories.RdvRepository;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Builds the appointment detail view by querying its dependencies concurrently.
+ * The invoice and payments are keyed by the appointment id, so they start together with the Rdv
+ * lookup; only the doctor waits for the Rdv row, and its lookup is composed with the doctor cache's
+ * future rather than blocking a pool thread. Each dependency has its own timeout, and a failed
+ * or slow one is reported in {@code errors} instead of failing the whole response.
+ */
+@Service
+public class RdvDetailsService {
+
+    private static final Logger log = LoggerFactory.getLogger(RdvDetailsService.class);
+
+    @Autowired
+    private RdvRepository rdvRepository;
+
+    @Autowired
+    private DocteurCache docteurCache;
+
+    @Autowired
+    private BillingClient billingClient;
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor executor;
+
+    @Value("${rdv.details.timeout-ms.rdv:1000}")
+    private long rdvTimeoutMs;
+
+    @Value("${rdv.details.timeout-ms.docteur:2000}")
+    private long docteurTimeoutMs;
+
+    @Value("${rdv.details.timeout-ms.invoice:2000}")
+    private long invoiceTimeoutMs;
+
+    @Value("${rdv.details.timeout-ms.payments:2000}")
+    private long paymentsTimeoutMs;
+
+    public RdvDetails getDetails(Long id) {
+        long start = System.currentTimeMillis();
+
+        CompletableFuture<Rdv> rdvFuture = CompletableFuture
+                .supplyAsync(() -> rdvRepository.findById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("Appointment", "id", id)), executor)
+                .orTimeout(rdvTimeoutMs, TimeUnit.MILLISECONDS);
+        CompletableFuture<InvoiceDTO> invoiceFuture = CompletableFuture
+                .supplyAsync(() -> fetchInvoice(id), executor)
+                .orTimeout(invoiceTimeoutMs, TimeUnit.MILLISECONDS);
+        CompletableFuture<List<PaymentDTO>> paymentsFuture = CompletableFuture
+                .supplyAsync(() -> billingClient.getPaymentsByRdvId(id), executor)
+                .orTimeout(paymentsTimeoutMs, TimeUnit.MILLISECONDS);
+        CompletableFuture<DocteurDTO> docteurFuture = rdvFuture
+                .thenCompose(rdv -> docteurCache.getAsync(rdv.getDocteurId()))
+                .orTimeout(rdvTimeoutMs + docteurTimeoutMs, TimeUnit.MILLISECONDS);
+
+        // The appointment itself is mandatory: a missing or unreadable Rdv fails the request
+        Rdv rdv;
+        try {
+            rdv = rdvFuture.join();
+        } catch (CompletionException e) {
+            invoiceFuture.cancel(false);
+            paymentsFuture.cancel(false);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        RdvDetails details = new RdvDetails();
+        details.setRdv(rdv);
+        details.setDocteur(resolve("docteur", docteurFuture, errors));
+        details.setInvoice(resolve("invoice", invoiceFuture, errors));
+        details.setPayments(resolve("payments", paymentsFuture, errors));
+        details.setErrors(errors);
+
+        log.info("Built details for appointment {} in {} ms ({} dependencies failed)",
+                id, System.currentTimeMillis() - start, errors.size());
+        return details;
+    }
+
+    // An appointment without an invoice yet is a normal state, not a dependency failure
+    private InvoiceDTO fetchInvoice(Long rdvId) {
+        try {
+            return billingClient.getInvoiceByRdvId(rdvId);
+        } catch (FeignException.NotFound e) {
+            return null;
+        }
+    }
+
+    private <T> T resolve(String dependency, CompletableFuture<T> future, Map<String, String> errors) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            String reason = cause instanceof TimeoutException ? "Timed out" : cause.getMessage();
+            log.warn("Could not fetch {} for appointment details: {}", dependency, reason);
+            errors.put(dependency, reason);
+            return null;
+        }
+    }
+}
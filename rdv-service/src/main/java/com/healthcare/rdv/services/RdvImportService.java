@@ -0,0 +1,359 @@
+package com.healthcare.rdv.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.rdv.clients.DocteurCache;
+import com.healthcare.rdv.clients.DocteurDTO;
+import com.healthcare.rdv.entities.DailyAgendaId;
+import com.healthcare.rdv.entities.Rdv;
+import com.healthcare.rdv.exceptions.BadRequestException;
+import com.healthcare.rdv.exceptions.ConflictException;
+import com.healthcare.rdv.models.ImportReport;
+import com.healthcare.rdv.repositories.RdvRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams appointment files (CSV with a header row, or NDJSON) into the database in chunks.
+ * Each chunk resolves its doctors with one batch lookup, reserves slots in the availability index,
+ * and is inserted with its outbox events and daily agenda updates in a single transaction using JDBC batching.
+ * A chunk rejected by a database constraint is retried one row per transaction, so only the offending rows fail.
+ */
+@Service
+public class RdvImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(RdvImportService.class);
+
+    public enum Format { CSV, NDJSON }
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of(
+            "docteurId", "patientNom", "patientPrenom", "patientEmail", "patientTelephone", "dateHeure", "motif");
+
+    private static final String DEFAULT_STATUS = "CONFIRMÉ";
+
+    @Autowired
+    private RdvRepository rdvRepository;
+
+    @Autowired
+    private AppointmentEventPublisher eventPublisher;
+
+    @Autowired
+    private DocteurCache docteurCache;
+
+    @Autowired
+    private AvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private DailyAgendaProjection dailyAgendaProjection;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${rdv.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${rdv.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public ImportReport importRdvs(InputStream input, Format format) throws IOException {
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        Map<String, Integer> columns = null;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && columns == null) {
+                    columns = parseHeader(line);
+                    continue;
+                }
+
+                report.setTotalRows(report.getTotalRows() + 1);
+                try {
+                    Rdv rdv = format == Format.CSV ? fromCsv(line, columns) : fromJson(line);
+                    String violations = validate(rdv);
+                    if (violations != null) {
+                        addError(report, lineNumber, violations);
+                        continue;
+                    }
+                    chunk.add(new Row(lineNumber, rdv));
+                } catch (IllegalArgumentException | DateTimeParseException | JsonProcessingException e) {
+                    addError(report, lineNumber, "Unparseable row: " + e.getMessage());
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        report.setDurationMs(durationMs);
+        report.setRowsPerSecond(durationMs == 0 ? report.getTotalRows() : report.getTotalRows() * 1000.0 / durationMs);
+        log.info("Imported {} of {} appointments ({} failed) in {} ms, {} rows/s",
+                report.getImported(), report.getTotalRows(), report.getFailed(), durationMs,
+                Math.round(report.getRowsPerSecond()));
+        return report;
+    }
+
+    private void importChunk(List<Row> chunk, ImportReport report) {
+        Set<Long> docteurIds = new LinkedHashSet<>();
+        for (Row row : chunk) {
+            docteurIds.add(row.rdv().getDocteurId());
+        }
+
+        Map<Long, DocteurDTO> docteurs;
+        try {
+            docteurs = docteurCache.getAll(docteurIds);
+        } catch (Exception e) {
+            log.warn("Could not validate {} doctors for import chunk: {}", docteurIds.size(), e.getMessage());
+            for (Row row : chunk) {
+                addError(report, row.line(), "Unable to validate doctor. Please try again.");
+            }
+            return;
+        }
+
+        List<Row> accepted = new ArrayList<>(chunk.size());
+        List<AvailabilityIndex.Booking> bookings = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            Rdv rdv = row.rdv();
+            if (!docteurs.containsKey(rdv.getDocteurId())) {
+                addError(report, row.line(), "Doctor not found with ID: " + rdv.getDocteurId());
+                continue;
+            }
+            if (AvailabilityIndex.CANCELLED_STATUS.equals(rdv.getStatut())) {
+                accepted.add(row);
+                bookings.add(null);
+                continue;
+            }
+            try {
+                bookings.add(availabilityIndex.reserve(rdv.getDocteurId(), rdv.getDateHeure(), null));
+                accepted.add(row);
+            } catch (ConflictException e) {
+                addError(report, row.line(), e.getMessage());
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            insert(accepted);
+        } catch (DataIntegrityViolationException e) {
+            // Typically a slot booked on another instance (rdv_doctor_slot_excl): retry row by row so only
+            // the conflicting lines fail
+            log.warn("Import chunk of {} rows rejected by the database, retrying row by row: {}",
+                    accepted.size(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            importRowByRow(accepted, bookings, report);
+            return;
+        } catch (RuntimeException e) {
+            log.error("Import chunk of {} rows failed: {}", accepted.size(), e.getMessage());
+            for (int i = 0; i < accepted.size(); i++) {
+                if (bookings.get(i) != null) {
+                    availabilityIndex.release(bookings.get(i));
+                }
+                addError(report, accepted.get(i).line(), "Insert failed: " + e.getMessage());
+            }
+            return;
+        }
+
+        for (int i = 0; i < accepted.size(); i++) {
+            if (bookings.get(i) != null) {
+                availabilityIndex.bind(bookings.get(i), accepted.get(i).rdv().getId());
+            }
+        }
+        report.setImported(report.getImported() + accepted.size());
+    }
+
+    private void importRowByRow(List<Row> rows, List<AvailabilityIndex.Booking> bookings, ImportReport report) {
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            AvailabilityIndex.Booking booking = bookings.get(i);
+            // Ids assigned by the rolled-back chunk were never committed
+            row.rdv().setId(null);
+            try {
+                insert(List.of(row));
+            } catch (RuntimeException e) {
+                if (booking != null) {
+                    availabilityIndex.release(booking);
+                }
+                String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                addError(report, row.line(), cause != null && cause.contains(AvailabilityIndex.SLOT_CONSTRAINT)
+                        ? "Doctor " + row.rdv().getDocteurId() + " is already booked at " + row.rdv().getDateHeure()
+                        : "Insert failed: " + e.getMessage());
+                continue;
+            }
+            if (booking != null) {
+                availabilityIndex.bind(booking, row.rdv().getId());
+            }
+            report.setImported(report.getImported() + 1);
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<DailyAgendaId> days = new HashSet<>();
+            for (Row row : rows) {
+                rdvRepository.save(row.rdv());
+                eventPublisher.publishAppointmentCreated(row.rdv());
+                days.add(DailyAgendaProjection.keyOf(row.rdv().getDocteurId(), row.rdv().getDateHeure()));
+            }
+            // One recomputation per doctor-day touched by the chunk, not per row
+            dailyAgendaProjection.refresh(days);
+            // Send the batched inserts now (through the repository, so constraint violations surface as
+            // DataIntegrityViolationException) and drop the managed entities so memory stays flat
+            rdvRepository.flush();
+            entityManager.clear();
+        });
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> names = parseCsvLine(line.replace("\uFEFF", ""));
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        for (String required : REQUIRED_CSV_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new BadRequestException("Missing CSV column: " + required
+                        + " (expected header " + String.join(",", REQUIRED_CSV_COLUMNS) + "[,statut])");
+            }
+        }
+        return columns;
+    }
+
+    private Rdv fromCsv(String line, Map<String, Integer> columns) {
+        List<String> fields = parseCsvLine(line);
+        Rdv rdv = new Rdv();
+        String docteurId = field(fields, columns, "docteurId");
+        rdv.setDocteurId(docteurId == null ? null : Long.valueOf(docteurId));
+        rdv.setPatientNom(field(fields, columns, "patientNom"));
+        rdv.setPatientPrenom(field(fields, columns, "patientPrenom"));
+        rdv.setPatientEmail(field(fields, columns, "patientEmail"));
+        rdv.setPatientTelephone(field(fields, columns, "patientTelephone"));
+        String dateHeure = field(fields, columns, "dateHeure");
+        rdv.setDateHeure(dateHeure == null ? null : LocalDateTime.parse(dateHeure));
+        rdv.setMotif(field(fields, columns, "motif"));
+        String statut = field(fields, columns, "statut");
+        rdv.setStatut(statut == null ? DEFAULT_STATUS : statut);
+        return rdv;
+    }
+
+    private Rdv fromJson(String line) throws JsonProcessingException {
+        Rdv rdv = objectMapper.readValue(line, Rdv.class);
+        rdv.setId(null);
+        if (rdv.getStatut() == null || rdv.getStatut().isBlank()) {
+            rdv.setStatut(DEFAULT_STATUS);
+        }
+        return rdv;
+    }
+
+    private String validate(Rdv rdv) {
+        Set<ConstraintViolation<Rdv>> violations = validator.validate(rdv);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void addError(ImportReport report, long line, String message) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < maxReportedErrors) {
+            report.getErrors().add(new ImportReport.RowError(line, message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // RFC 4180 fields on a single line: commas inside double quotes, "" for a literal quote
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private record Row(long line, Rdv rdv) {
+    }
+}
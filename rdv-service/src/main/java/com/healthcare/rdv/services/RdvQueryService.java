@@ -0,0 +1,137 @@
+package com.healthcare.rdv.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.healthcare.rdv.entities.Rdv;
+import com.healthcare.rdv.exceptions.BadRequestException;
+import com.healthcare.rdv.models.CursorPage;
+import com.healthcare.rdv.repositories.RdvRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class RdvQueryService {
+
+    private static final Logger log = LoggerFactory.getLogger(RdvQueryService.class);
+
+    public static final String SORT_ID = "id";
+    public static final String SORT_DATE_HEURE = "dateHeure";
+
+    @Autowired
+    private RdvRepository rdvRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${rdv.pagination.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${rdv.pagination.max-size:500}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true)
+    public CursorPage<Rdv> findPage(String cursor, Integer size, String sort) {
+        int pageSize = resolvePageSize(size);
+        // Fetch one extra row to know whether another page exists without a count query
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Rdv> rows;
+        if (SORT_ID.equals(sort)) {
+            rows = cursor == null
+                    ? rdvRepository.findAllByOrderByIdAsc(limit)
+                    : rdvRepository.findPageAfterId(decodeCursor(cursor).id(), limit);
+        } else if (SORT_DATE_HEURE.equals(sort)) {
+            if (cursor == null) {
+                rows = rdvRepository.findAllByOrderByDateHeureAscIdAsc(limit);
+            } else {
+                Cursor after = decodeCursor(cursor);
+                if (after.dateHeure() == null) {
+                    throw new BadRequestException("Cursor was not issued for sort: " + sort);
+                }
+                rows = rdvRepository.findPageAfterDateHeure(after.dateHeure(), after.id(), limit);
+            }
+        } else {
+            throw new BadRequestException("Unsupported sort: " + sort + " (expected 'id' or 'dateHeure')");
+        }
+
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<Rdv> items = rows.subList(0, pageSize);
+        Rdv last = items.get(items.size() - 1);
+        return new CursorPage<>(items, encodeCursor(last, sort));
+    }
+
+    @Transactional(readOnly = true)
+    public void writeNdjson(OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<Rdv> rdvs = rdvRepository.streamAllOrderById()) {
+            Iterator<Rdv> iterator = rdvs.iterator();
+            while (iterator.hasNext()) {
+                Rdv rdv = iterator.next();
+                out.write(objectMapper.writeValueAsBytes(rdv));
+                out.write('\n');
+                // Keep the persistence context empty so memory stays flat
+                entityManager.detach(rdv);
+                count++;
+            }
+        }
+        out.flush();
+        log.info("Streamed {} appointments as NDJSON", count);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private String encodeCursor(Rdv last, String sort) {
+        String raw = SORT_DATE_HEURE.equals(sort)
+                ? last.getDateHeure() + "|" + last.getId()
+                : String.valueOf(last.getId());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                return new Cursor(null, Long.parseLong(raw));
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private record Cursor(LocalDateTime dateHeure, Long id) {
+    }
+}
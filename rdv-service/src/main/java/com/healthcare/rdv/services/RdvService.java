@@ -0,0 +1,61 @@
+package com.healthcare.rdv.services;
+
+import com.healthcare.rdv.entities.DailyAgendaId;
+import com.healthcare.rdv.entities.Rdv;
+import com.healthcare.rdv.repositories.RdvRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Appointment writes. Each change, its outbox event and the affected daily agendas commit together.
+ */
+@Service
+public class RdvService {
+
+    @Autowired
+    private RdvRepository rdvRepository;
+
+    @Autowired
+    private AppointmentEventPublisher eventPublisher;
+
+    @Autowired
+    private DailyAgendaProjection dailyAgendaProjection;
+
+    // Flushed here so a slot constraint violation surfaces as a DataIntegrityViolationException from the save
+    @Transactional
+    public Rdv create(Rdv rdv) {
+        Rdv savedRdv = rdvRepository.saveAndFlush(rdv);
+        eventPublisher.publishAppointmentCreated(savedRdv);
+        dailyAgendaProjection.refresh(List.of(agendaDay(savedRdv.getDateHeure(), savedRdv)));
+        return savedRdv;
+    }
+
+    // previousDateHeure is the appointment's date before the change, so a move also refreshes the day it left
+    // Updates and deletes are flushed before their outbox event takes its id: the row lock makes a
+    // concurrent change to the same appointment wait, so its event gets the higher id
+    @Transactional
+    public Rdv update(Rdv rdv, LocalDateTime previousDateHeure) {
+        Rdv updatedRdv = rdvRepository.saveAndFlush(rdv);
+        eventPublisher.publishAppointmentUpdated(updatedRdv);
+        dailyAgendaProjection.refresh(List.of(
+                agendaDay(updatedRdv.getDateHeure(), updatedRdv),
+                agendaDay(previousDateHeure, updatedRdv)));
+        return updatedRdv;
+    }
+
+    @Transactional
+    public void delete(Rdv rdv) {
+        rdvRepository.delete(rdv);
+        rdvRepository.flush();
+        eventPublisher.publishAppointmentCancelled(rdv);
+        dailyAgendaProjection.refresh(List.of(agendaDay(rdv.getDateHeure(), rdv)));
+    }
+
+    private static DailyAgendaId agendaDay(LocalDateTime dateHeure, Rdv rdv) {
+        return DailyAgendaProjection.keyOf(rdv.getDocteurId(), dateHeure);
+    }
+}
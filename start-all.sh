@@ -51,7 +51,7 @@ echo ""
 if command -v java &> /dev/null; then
     print_status "Java installed"
 else
-    print_error "Java is not installed. Please install JDK 17+"
+    print_error "Java is not installed. Please install JDK 21+"
     echo "  Arch Linux: sudo pacman -S jdk-openjdk"
     exit 1
 fi
@@ -184,9 +184,21 @@ mkdir -p logs
 print_status "Logs directory ready"
 
 # Clean target directories to avoid permission issues
-sudo rm -rf eureka-server/target api-gateway/target auth-service/target docteur-service/target rdv-service/target notification-service/target billing-service/target
+sudo rm -rf jwt-common/target eureka-server/target api-gateway/target auth-service/target docteur-service/target rdv-service/target notification-service/target billing-service/target
 print_status "Build directories cleaned"
 
+# Install the shared JWT module used by api-gateway, auth-service and billing-service
+echo "Installing JWT Common module..."
+cd jwt-common
+if mvn clean install -q > ../logs/jwt-common.log 2>&1; then
+    cd ..
+    print_status "JWT Common module installed"
+else
+    cd ..
+    print_error "Failed to build JWT Common module (see logs/jwt-common.log)"
+    exit 1
+fi
+
 # Check ports
 check_port 8761
 check_port 8080